@@ -0,0 +1,143 @@
+package benchmarks;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.SingletonSynchronizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Round trip of a completion signal between the benchmark thread and a partner thread, i.e., the completion step
+ * of every ring invocation, using either {@link SingletonSynchronizer}s or {@link CompletionBarrier}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompletionSignalBenchmark {
+
+    public enum Kind {SINGLETON_SYNCHRONIZER, COMPLETION_BARRIER}
+
+    private interface RoundTrip {
+
+        void roundTrip();
+
+        /**
+         * Serves round trips until interrupted.
+         */
+        void serve();
+
+    }
+
+    private static final class SynchronizerRoundTrip implements RoundTrip {
+
+        private final SingletonSynchronizer request = new SingletonSynchronizer();
+
+        private final SingletonSynchronizer response = new SingletonSynchronizer();
+
+        @Override
+        public void roundTrip() {
+            request.signal();
+            response.await();
+        }
+
+        @Override
+        public void serve() {
+            for (; ; ) {
+                request.await();
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                response.signal();
+            }
+        }
+
+    }
+
+    private static final class BarrierRoundTrip implements RoundTrip {
+
+        private final CompletionBarrier request = new CompletionBarrier();
+
+        private final CompletionBarrier response = new CompletionBarrier();
+
+        /**
+         * Captured before the partner starts, so that no request is missed.
+         */
+        private final int firstRequestGeneration = request.generation();
+
+        @Override
+        public void roundTrip() {
+            int generation = response.generation();
+            request.signal();
+            response.awaitAdvance(generation);
+        }
+
+        @Override
+        public void serve() {
+            for (int generation = firstRequestGeneration; ; generation++) {
+                request.awaitAdvance(generation);
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                response.signal();
+            }
+        }
+
+    }
+
+    @Param({"SINGLETON_SYNCHRONIZER", "COMPLETION_BARRIER"})
+    Kind kind;
+
+    @Param({"false", "true"})
+    boolean virtual;
+
+    private RoundTrip roundTrip;
+
+    private Thread partner;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roundTrip = kind == Kind.SINGLETON_SYNCHRONIZER ? new SynchronizerRoundTrip() : new BarrierRoundTrip();
+        Thread.Builder threadBuilder = virtual ? Thread.ofVirtual() : Thread.ofPlatform();
+        partner = threadBuilder.name("Partner").start(roundTrip::serve);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        partner.interrupt();
+        partner.join();
+    }
+
+    @Benchmark
+    public void roundTrip() {
+        roundTrip.roundTrip();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(CompletionSignalBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .resultFormat(ResultFormatType.JSON)
+                .result("CompletionSignal_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,179 @@
+package benchmarks;
+
+import benchmarks.core.ring.RingBenchmark;
+import jdk.internal.vm.Continuation;
+import jdk.internal.vm.ContinuationScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.ring.RingBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark using bare {@link Continuation}s, where every worker yields by naming the next worker to be
+ * resumed and the calling thread resumes it right away.
+ * <p>
+ * There is neither a scheduler queue nor a carrier hand-off involved, hence this is the lower bound of the
+ * freeze/thaw cost paid by a virtual thread hop, e.g., in {@link JavaFiberRingBenchmark}.
+ * Requires {@value #ADD_EXPORTS_JVM_ARG} both at compile time and at runtime.
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = JavaContinuationRingBenchmark.ADD_EXPORTS_JVM_ARG)
+public class JavaContinuationRingBenchmark implements RingBenchmark {
+
+    public static final String ADD_EXPORTS_JVM_ARG = "--add-exports=java.base/jdk.internal.vm=ALL-UNNAMED";
+
+    private static final ContinuationScope SCOPE = new ContinuationScope("ring");
+
+    static final class Worker implements Runnable {
+
+        final int id;
+
+        final Continuation continuation;
+
+        Worker next = null;
+
+        /**
+         * The worker to be resumed after this one yields, if any.
+         */
+        @Nullable
+        Worker resumed = null;
+
+        int sequence;
+
+        Worker(int id) {
+            this.id = id;
+            this.continuation = new Continuation(SCOPE, this);
+        }
+
+        @Override
+        public void run() {
+            // noinspection InfiniteLoopStatement
+            for (; ; ) {
+                log("[%2d] yielding", id);
+                Continuation.yield(SCOPE);
+                log("[%2d] resumed", id);
+                if (sequence <= 0) {
+                    log("[%2d] completing", id);
+                } else {
+                    log("[%2d] resuming next", id);
+                    next.sequence = sequence - 1;
+                    resumed = next;
+                }
+            }
+        }
+
+    }
+
+    private static final class Context implements AutoCloseable, Callable<int[]> {
+
+        private final int workerCount;
+
+        private final int messagePassingCount;
+
+        private final int[] sequences;
+
+        private final Worker[] workers;
+
+        private Context(int workerCount, int messagePassingCount) {
+
+            this.workerCount = workerCount;
+            this.messagePassingCount = messagePassingCount;
+            this.sequences = new int[workerCount];
+
+            log("creating workers (workerCount=%d)", workerCount);
+            this.workers = new Worker[workerCount];
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                workers[workerIndex] = new Worker(workerIndex);
+            }
+
+            log("setting next worker pointers");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                workers[workerIndex].next = workers[(workerIndex + 1) % workerCount];
+            }
+
+            log("running continuations up to their first yield");
+            for (Worker worker : workers) {
+                worker.continuation.run();
+            }
+
+        }
+
+        @Override
+        public void close() {
+            log("abandoning suspended continuations");
+        }
+
+        @Override
+        public int[] call() {
+
+            log("initiating the ring (messagePassingCount=%d)", messagePassingCount);
+            Worker worker = workers[0];
+            worker.sequence = messagePassingCount;
+            while (worker != null) {
+                worker.continuation.run();
+                Worker resumed = worker.resumed;
+                worker.resumed = null;
+                worker = resumed;
+            }
+
+            log("collecting sequences");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                sequences[workerIndex] = workers[workerIndex].sequence;
+            }
+
+            log("returning populated sequences (sequences=%s)", () -> new Object[]{Arrays.toString(sequences)});
+            return sequences;
+
+        }
+
+    }
+
+    private final Context context;
+
+    public JavaContinuationRingBenchmark() {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT);
+    }
+
+    public JavaContinuationRingBenchmark(int workerCount, int messagePassingCount) {
+        this.context = new Context(workerCount, messagePassingCount);
+    }
+
+    @Override
+    @TearDown
+    public void close() {
+        context.close();
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaContinuationRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(THREAD_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("ContinuationRealization" + THREAD_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
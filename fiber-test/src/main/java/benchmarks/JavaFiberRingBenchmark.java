@@ -1,8 +1,10 @@
 package benchmarks;
 
-import benchmarks.core.SingletonSynchronizer;
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.VirtualThreadScheduler;
 import benchmarks.core.ring.RingBenchmark;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
@@ -20,39 +22,60 @@ import static benchmarks.core.ring.RingBenchmarkConfig.*;
 import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
 import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
 
+/**
+ * Ring benchmark using fibers, i.e., virtual {@link Thread}s mounted on an explicitly provided executor.
+ * <p>
+ * The early-Loom {@code Fiber.schedule(executor, task)} API this realization was written against is gone,
+ * hence fibers are ported to virtual threads created by a {@link VirtualThreadScheduler} on the same executor.
+ */
 @State(Scope.Benchmark)
+@Fork(jvmArgsAppend = VirtualThreadScheduler.ADD_OPENS_JVM_ARG)
 public class JavaFiberRingBenchmark implements RingBenchmark {
 
     private static final class Context implements AutoCloseable, Callable<int[]> {
 
-        private final SingletonSynchronizer completionSynchronizer = new SingletonSynchronizer();
+        private final CompletionBarrier completionBarrier = new CompletionBarrier();
 
-        private final int[] sequences = new int[WORKER_COUNT];
+        private final int workerCount;
+
+        private final int messagePassingCount;
+
+        private final int[] sequences;
 
         private final ExecutorService executorService;
 
         private final JavaThreadRingBenchmark.Worker[] workers;
 
-        private Context() {
+        private final Thread[] fibers;
+
+        private Context(int workerCount, int messagePassingCount) {
+
+            this.workerCount = workerCount;
+            this.messagePassingCount = messagePassingCount;
+            this.sequences = new int[workerCount];
 
-            log("creating workers (WORKER_COUNT=%d)", WORKER_COUNT);
-            this.workers = new JavaThreadRingBenchmark.Worker[WORKER_COUNT];
-            CountDownLatch startLatch = new CountDownLatch(WORKER_COUNT);
-            for (int workerIndex = 0; workerIndex < WORKER_COUNT; workerIndex++) {
-                JavaThreadRingBenchmark.Worker worker = new JavaThreadRingBenchmark.Worker(workerIndex, startLatch, completionSynchronizer);
+            log("creating workers (workerCount=%d)", workerCount);
+            this.workers = new JavaThreadRingBenchmark.Worker[workerCount];
+            this.fibers = new Thread[workerCount];
+            CountDownLatch startLatch = new CountDownLatch(workerCount);
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                JavaThreadRingBenchmark.Worker worker = new JavaThreadRingBenchmark.Worker(workerIndex, startLatch, completionBarrier);
                 workers[workerIndex] = worker;
             }
 
             log("setting next worker pointers");
-            for (int workerIndex = 0; workerIndex < WORKER_COUNT; workerIndex++) {
-                workers[workerIndex].next = workers[(workerIndex + 1) % WORKER_COUNT];
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                workers[workerIndex].next = workers[(workerIndex + 1) % workerCount];
             }
 
             log("scheduling fibers (THREAD_COUNT=%d)", THREAD_COUNT);
 //            this.executorService = Executors.newFixedThreadPool(THREAD_COUNT);
             this.executorService = ForkJoinPool.commonPool();
-            for (JavaThreadRingBenchmark.Worker worker : workers) {
-                Fiber.schedule(executorService, worker);
+            VirtualThreadScheduler scheduler = VirtualThreadScheduler.on(executorService);
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                Thread fiber = scheduler.newThread("Worker-" + workerIndex, workers[workerIndex]);
+                fibers[workerIndex] = fiber;
+                fiber.start();
             }
 
             log("waiting for fibers to start");
@@ -66,19 +89,32 @@ public class JavaFiberRingBenchmark implements RingBenchmark {
         }
 
         @Override
-        public void close() {
+        public void close() throws InterruptedException {
+
+            log("interrupting fibers");
+            for (Thread fiber : fibers) {
+                fiber.interrupt();
+            }
+
+            log("waiting for fibers to complete");
+            for (Thread fiber : fibers) {
+                fiber.join();
+            }
+
             log("shutting down the executor service");
             executorService.shutdown();
+
         }
 
         @Override
         public int[] call() {
 
-            log("initiating the ring (MESSAGE_PASSING_COUNT=%d)", MESSAGE_PASSING_COUNT);
+            int generation = completionBarrier.generation();
+            log("initiating the ring (messagePassingCount=%d)", messagePassingCount);
             JavaThreadRingBenchmark.Worker firstWorker = workers[0];
             firstWorker.lock.lock();
             try {
-                firstWorker.sequence = MESSAGE_PASSING_COUNT;
+                firstWorker.sequence = messagePassingCount;
                 firstWorker.waiting = false;
                 firstWorker.waitingCondition.signal();
             } finally {
@@ -86,10 +122,10 @@ public class JavaFiberRingBenchmark implements RingBenchmark {
             }
 
             log("waiting for completion");
-            completionSynchronizer.await();
+            completionBarrier.awaitAdvance(generation);
 
             log("collecting sequences");
-            for (int workerIndex = 0; workerIndex < WORKER_COUNT; workerIndex++) {
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
                 sequences[workerIndex] = workers[workerIndex].sequence;
             }
 
@@ -100,11 +136,19 @@ public class JavaFiberRingBenchmark implements RingBenchmark {
 
     }
 
-    private final Context context = new Context();
+    private final Context context;
+
+    public JavaFiberRingBenchmark() {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT);
+    }
+
+    public JavaFiberRingBenchmark(int workerCount, int messagePassingCount) {
+        this.context = new Context(workerCount, messagePassingCount);
+    }
 
     @Override
     @TearDown
-    public void close() {
+    public void close() throws InterruptedException {
         context.close();
     }
 
@@ -0,0 +1,256 @@
+package benchmarks;
+
+import benchmarks.core.VirtualThreadScheduler;
+import benchmarks.core.ring.Mailbox;
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static benchmarks.core.ring.RingBenchmarkConfig.SHARD_COUNT;
+import static benchmarks.core.ring.RingBenchmarkConfig.SHARD_SCHEDULING;
+import static benchmarks.core.ring.RingBenchmarkConfig.TOKEN_COUNT;
+
+/**
+ * Ring benchmark sweeping over engines, ring sizes, message passing counts and carriers via JMH {@link Param}s,
+ * see {@link RingSweepRunner} to walk the full matrix in a single run.
+ * <p>
+ * Every JMH thread owns a ring of its own, hence the JMH thread count is the number of concurrent rings.
+ * The score is in ring traversals per second, i.e., {@code messagePassingCount} hops for each of the
+ * {@link Engine#concurrentTokenCount() concurrent tokens}. Multi-token and sharded engines take their token and
+ * shard counts from the {@code ring.tokenCount}, {@code ring.shardCount} and {@code ring.shardScheduling}
+ * properties. Engines not running on a {@link VirtualThreadScheduler} of their own, i.e., platform threads, bare
+ * continuations and fibers mounted on the common pool, ignore {@code schedulerKind} and {@code carrierCount}.
+ * <p>
+ * Monitor workers pin their carriers while waiting prior to JDK 24, hence {@link Engine#VIRTUAL_THREAD_MONITOR} fails
+ * fast under a custom scheduler with fewer carriers than workers, see {@link JavaVirtualThreadMonitorRingBenchmark}.
+ * It is meant to run on the {@link VirtualThreadScheduler.Kind#DEFAULT DEFAULT} scheduler, whose carrier count is
+ * set via {@code jdk.virtualThreadScheduler.parallelism}, as {@link RingSweepRunner} does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(jvmArgsAppend = {VirtualThreadScheduler.ADD_OPENS_JVM_ARG, JavaContinuationRingBenchmark.ADD_EXPORTS_JVM_ARG})
+public class JavaRingSweepBenchmark {
+
+    public enum Engine {
+
+        THREAD(false),
+
+        VIRTUAL_THREAD(true),
+
+        THREAD_PARKING(false),
+
+        VIRTUAL_THREAD_PARKING(true),
+
+        VIRTUAL_THREAD_COMPACT(true),
+
+        THREAD_SYNCHRONOUS_QUEUE(false),
+
+        VIRTUAL_THREAD_SYNCHRONOUS_QUEUE(true),
+
+        THREAD_EXCHANGER(false),
+
+        VIRTUAL_THREAD_EXCHANGER(true),
+
+        THREAD_TRANSFER_QUEUE(false),
+
+        VIRTUAL_THREAD_TRANSFER_QUEUE(true),
+
+        THREAD_PIPE(false),
+
+        VIRTUAL_THREAD_PIPE(true),
+
+        SELECTOR_PIPE(false),
+
+        THREAD_INT_CHANNEL(false),
+
+        VIRTUAL_THREAD_INT_CHANNEL(true),
+
+        THREAD_MULTI_TOKEN(false),
+
+        VIRTUAL_THREAD_MULTI_TOKEN(true),
+
+        VIRTUAL_THREAD_SHARDED(true),
+
+        CONTINUATION(false),
+
+        FIBER(false),
+
+        THREAD_MONITOR(false),
+
+        VIRTUAL_THREAD_MONITOR(true),
+
+        THREAD_SPSC_QUEUE(false),
+
+        VIRTUAL_THREAD_SPSC_QUEUE(true),
+
+        THREAD_MPSC_QUEUE(false),
+
+        VIRTUAL_THREAD_MPSC_QUEUE(true),
+
+        THREAD_MPMC_QUEUE(false),
+
+        VIRTUAL_THREAD_MPMC_QUEUE(true);
+
+        private final boolean virtual;
+
+        Engine(boolean virtual) {
+            this.virtual = virtual;
+        }
+
+        public boolean isVirtual() {
+            return virtual;
+        }
+
+        /**
+         * @return whether carriers are to be provided by the {@link VirtualThreadScheduler.Kind#DEFAULT DEFAULT}
+         * scheduler, sized via {@code jdk.virtualThreadScheduler.parallelism}
+         */
+        public boolean requiresDefaultScheduler() {
+            return this == VIRTUAL_THREAD_MONITOR;
+        }
+
+        /**
+         * @return the number of tokens circulating at once, i.e., the hop count of a traversal in multiples of
+         * {@code messagePassingCount}
+         */
+        public int concurrentTokenCount() {
+            switch (this) {
+                case THREAD_MULTI_TOKEN:
+                case VIRTUAL_THREAD_MULTI_TOKEN:
+                    return TOKEN_COUNT;
+                case VIRTUAL_THREAD_SHARDED:
+                    return SHARD_COUNT;
+                default:
+                    return 1;
+            }
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class RingState {
+
+        @Param({
+                "THREAD", "VIRTUAL_THREAD", "THREAD_PARKING", "VIRTUAL_THREAD_PARKING", "VIRTUAL_THREAD_COMPACT",
+                "THREAD_SYNCHRONOUS_QUEUE", "VIRTUAL_THREAD_SYNCHRONOUS_QUEUE", "THREAD_EXCHANGER",
+                "VIRTUAL_THREAD_EXCHANGER", "THREAD_TRANSFER_QUEUE", "VIRTUAL_THREAD_TRANSFER_QUEUE", "THREAD_PIPE",
+                "VIRTUAL_THREAD_PIPE", "SELECTOR_PIPE", "THREAD_INT_CHANNEL", "VIRTUAL_THREAD_INT_CHANNEL",
+                "THREAD_MULTI_TOKEN", "VIRTUAL_THREAD_MULTI_TOKEN", "VIRTUAL_THREAD_SHARDED", "CONTINUATION", "FIBER",
+                "THREAD_MONITOR", "VIRTUAL_THREAD_MONITOR", "THREAD_SPSC_QUEUE", "VIRTUAL_THREAD_SPSC_QUEUE",
+                "THREAD_MPSC_QUEUE", "VIRTUAL_THREAD_MPSC_QUEUE", "THREAD_MPMC_QUEUE", "VIRTUAL_THREAD_MPMC_QUEUE"})
+        Engine engine;
+
+        @Param({"60"})
+        int workerCount;
+
+        @Param({"6000"})
+        int messagePassingCount;
+
+        @Param({"DEFAULT"})
+        VirtualThreadScheduler.Kind schedulerKind;
+
+        @Param({"1"})
+        int carrierCount;
+
+        RingBenchmark benchmark;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            benchmark = createBenchmark(engine, workerCount, messagePassingCount, schedulerKind, carrierCount);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            benchmark.close();
+        }
+
+    }
+
+    public static RingBenchmark createBenchmark(
+            Engine engine,
+            int workerCount,
+            int messagePassingCount,
+            VirtualThreadScheduler.Kind schedulerKind,
+            int carrierCount) throws IOException {
+        switch (engine) {
+            case THREAD:
+                return new JavaThreadRingBenchmark(workerCount, messagePassingCount);
+            case VIRTUAL_THREAD:
+                return new JavaVirtualThreadRingBenchmark(workerCount, messagePassingCount, schedulerKind, carrierCount);
+            case THREAD_PARKING:
+                return new JavaThreadParkingRingBenchmark(workerCount, messagePassingCount);
+            case VIRTUAL_THREAD_PARKING:
+                return new JavaVirtualThreadParkingRingBenchmark(workerCount, messagePassingCount, schedulerKind, carrierCount);
+            case VIRTUAL_THREAD_COMPACT:
+                return new JavaVirtualThreadCompactRingBenchmark(workerCount, messagePassingCount, schedulerKind, carrierCount);
+            case THREAD_SYNCHRONOUS_QUEUE:
+                return new JavaThreadMailboxRingBenchmark(workerCount, messagePassingCount, Mailbox.Kind.SYNCHRONOUS_QUEUE);
+            case VIRTUAL_THREAD_SYNCHRONOUS_QUEUE:
+                return new JavaVirtualThreadMailboxRingBenchmark(workerCount, messagePassingCount, Mailbox.Kind.SYNCHRONOUS_QUEUE, schedulerKind, carrierCount);
+            case THREAD_EXCHANGER:
+                return new JavaThreadMailboxRingBenchmark(workerCount, messagePassingCount, Mailbox.Kind.EXCHANGER);
+            case VIRTUAL_THREAD_EXCHANGER:
+                return new JavaVirtualThreadMailboxRingBenchmark(workerCount, messagePassingCount, Mailbox.Kind.EXCHANGER, schedulerKind, carrierCount);
+            case THREAD_TRANSFER_QUEUE:
+                return new JavaThreadMailboxRingBenchmark(workerCount, messagePassingCount, Mailbox.Kind.LINKED_TRANSFER_QUEUE);
+            case VIRTUAL_THREAD_TRANSFER_QUEUE:
+                return new JavaVirtualThreadMailboxRingBenchmark(workerCount, messagePassingCount, Mailbox.Kind.LINKED_TRANSFER_QUEUE, schedulerKind, carrierCount);
+            case THREAD_PIPE:
+                return new JavaThreadPipeRingBenchmark(workerCount, messagePassingCount);
+            case VIRTUAL_THREAD_PIPE:
+                return new JavaVirtualThreadPipeRingBenchmark(workerCount, messagePassingCount, schedulerKind, carrierCount);
+            case SELECTOR_PIPE:
+                return new JavaSelectorPipeRingBenchmark(workerCount, messagePassingCount);
+            case THREAD_INT_CHANNEL:
+                return new JavaThreadIntChannelRingBenchmark(workerCount, messagePassingCount);
+            case VIRTUAL_THREAD_INT_CHANNEL:
+                return new JavaVirtualThreadIntChannelRingBenchmark(workerCount, messagePassingCount, schedulerKind, carrierCount);
+            case THREAD_MULTI_TOKEN:
+                return new JavaThreadMultiTokenRingBenchmark(workerCount, messagePassingCount, TOKEN_COUNT);
+            case VIRTUAL_THREAD_MULTI_TOKEN:
+                return new JavaVirtualThreadMultiTokenRingBenchmark(workerCount, messagePassingCount, TOKEN_COUNT, schedulerKind, carrierCount);
+            case VIRTUAL_THREAD_SHARDED:
+                return new JavaVirtualThreadShardedRingBenchmark(workerCount, messagePassingCount, SHARD_COUNT, SHARD_SCHEDULING, schedulerKind, carrierCount);
+            case CONTINUATION:
+                return new JavaContinuationRingBenchmark(workerCount, messagePassingCount);
+            case FIBER:
+                return new JavaFiberRingBenchmark(workerCount, messagePassingCount);
+            case THREAD_MONITOR:
+                return new JavaThreadMonitorRingBenchmark(workerCount, messagePassingCount);
+            case VIRTUAL_THREAD_MONITOR:
+                return new JavaVirtualThreadMonitorRingBenchmark(workerCount, messagePassingCount, schedulerKind, carrierCount);
+            case THREAD_SPSC_QUEUE:
+                return new JavaThreadMailboxRingBenchmark(workerCount, messagePassingCount, Mailbox.Kind.SPSC_QUEUE);
+            case VIRTUAL_THREAD_SPSC_QUEUE:
+                return new JavaVirtualThreadMailboxRingBenchmark(workerCount, messagePassingCount, Mailbox.Kind.SPSC_QUEUE, schedulerKind, carrierCount);
+            case THREAD_MPSC_QUEUE:
+                return new JavaThreadMailboxRingBenchmark(workerCount, messagePassingCount, Mailbox.Kind.MPSC_QUEUE);
+            case VIRTUAL_THREAD_MPSC_QUEUE:
+                return new JavaVirtualThreadMailboxRingBenchmark(workerCount, messagePassingCount, Mailbox.Kind.MPSC_QUEUE, schedulerKind, carrierCount);
+            case THREAD_MPMC_QUEUE:
+                return new JavaThreadMailboxRingBenchmark(workerCount, messagePassingCount, Mailbox.Kind.MPMC_QUEUE);
+            case VIRTUAL_THREAD_MPMC_QUEUE:
+                return new JavaVirtualThreadMailboxRingBenchmark(workerCount, messagePassingCount, Mailbox.Kind.MPMC_QUEUE, schedulerKind, carrierCount);
+            default:
+                throw new IllegalArgumentException("unknown engine: " + engine);
+        }
+    }
+
+    @Benchmark
+    public int[] ringBenchmark(RingState state) throws Exception {
+        return state.benchmark.ringBenchmark();
+    }
+
+}
@@ -0,0 +1,238 @@
+package benchmarks;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.ring.RingBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark passing the token through a {@link Pipe} per worker as in {@link JavaThreadPipeRingBenchmark},
+ * where the workers are rather the {@link SelectionKey}s of a single thread running a {@link Selector} loop over the
+ * non-blocking pipe sources, i.e., an event loop instead of a thread per worker.
+ */
+@State(Scope.Benchmark)
+public class JavaSelectorPipeRingBenchmark implements RingBenchmark {
+
+    private static final class Worker {
+
+        private final Pipe pipe;
+
+        private final int id;
+
+        private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(Integer.BYTES);
+
+        private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(Integer.BYTES);
+
+        private Worker next = null;
+
+        /**
+         * Last sequence read from the {@link #pipe}, read after the completion.
+         */
+        private int sequence;
+
+        private Worker(int id) throws IOException {
+            this.id = id;
+            this.pipe = Pipe.open();
+        }
+
+    }
+
+    static final class Context implements AutoCloseable, Callable<int[]> {
+
+        private final CompletionBarrier completionBarrier = new CompletionBarrier();
+
+        private final ByteBuffer initiationBuffer = ByteBuffer.allocateDirect(Integer.BYTES);
+
+        private final int workerCount;
+
+        private final int messagePassingCount;
+
+        private final int[] sequences;
+
+        private final Worker[] workers;
+
+        private final Selector selector;
+
+        private final Thread thread;
+
+        @Nullable
+        private volatile IOException failure = null;
+
+        Context(int workerCount, int messagePassingCount) throws IOException {
+
+            this.workerCount = workerCount;
+            this.messagePassingCount = messagePassingCount;
+            this.sequences = new int[workerCount];
+            this.selector = Selector.open();
+
+            log("creating workers (workerCount=%d)", workerCount);
+            this.workers = new Worker[workerCount];
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                Worker worker = new Worker(workerIndex);
+                worker.pipe.source().configureBlocking(false);
+                worker.pipe.source().register(selector, SelectionKey.OP_READ, worker);
+                workers[workerIndex] = worker;
+            }
+
+            log("setting next worker pointers");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                workers[workerIndex].next = workers[(workerIndex + 1) % workerCount];
+            }
+
+            log("starting the selector thread");
+            this.thread = new Thread(this::runSelector, "Selector");
+            thread.start();
+
+        }
+
+        private void runSelector() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    selector.select(this::handle);
+                }
+                log("selector interrupted");
+            } catch (IOException error) {
+                log("selector I/O failure: %s", error.getMessage());
+                fail(error);
+            }
+        }
+
+        private void handle(SelectionKey key) {
+            Worker worker = (Worker) key.attachment();
+            try {
+                if (worker.pipe.source().read(worker.readBuffer) < 0) {
+                    throw new IOException("pipe closed");
+                }
+                if (worker.readBuffer.hasRemaining()) {
+                    return;
+                }
+                worker.sequence = worker.readBuffer.getInt(0);
+                worker.readBuffer.clear();
+                if (worker.sequence <= 0) {
+                    log("[%2d] signaling completion", worker.id);
+                    completionBarrier.signal();
+                } else {
+                    log("[%2d] writing next", worker.id);
+                    JavaThreadPipeRingBenchmark.write(worker.next.pipe.sink(), worker.writeBuffer, worker.sequence - 1);
+                }
+            } catch (IOException error) {
+                log("[%2d] I/O failure: %s", () -> new Object[]{worker.id, error.getMessage()});
+                key.cancel();
+                fail(error);
+            }
+        }
+
+        /**
+         * Records the first failure and wakes up a pending {@link #call()}, since the token is lost.
+         */
+        private void fail(IOException error) {
+            if (failure == null) {
+                failure = error;
+                completionBarrier.signal();
+            }
+        }
+
+        private void checkFailure() throws IOException {
+            IOException error = failure;
+            if (error != null) {
+                throw new IOException("ring failed", error);
+            }
+        }
+
+        @Override
+        public void close() throws Exception {
+
+            log("interrupting the selector thread");
+            thread.interrupt();
+
+            log("waiting for the selector thread to complete");
+            thread.join();
+
+            log("closing pipes");
+            selector.close();
+            for (Worker worker : workers) {
+                worker.pipe.source().close();
+                worker.pipe.sink().close();
+            }
+
+        }
+
+        @Override
+        public int[] call() throws IOException {
+
+            int generation = completionBarrier.generation();
+            checkFailure();
+            log("initiating the ring (messagePassingCount=%d)", messagePassingCount);
+            JavaThreadPipeRingBenchmark.write(workers[0].pipe.sink(), initiationBuffer, messagePassingCount);
+
+            log("waiting for completion");
+            completionBarrier.awaitAdvance(generation);
+            checkFailure();
+
+            log("collecting sequences");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                sequences[workerIndex] = workers[workerIndex].sequence;
+            }
+
+            log("returning populated sequences (sequences=%s)", () -> new Object[]{Arrays.toString(sequences)});
+            return sequences;
+
+        }
+
+    }
+
+    private final Context context;
+
+    public JavaSelectorPipeRingBenchmark() throws IOException {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT);
+    }
+
+    public JavaSelectorPipeRingBenchmark(int workerCount, int messagePassingCount) throws IOException {
+        this.context = new Context(workerCount, messagePassingCount);
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() throws IOException {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaSelectorPipeRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(THREAD_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("SelectorPipeRealization" + THREAD_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,205 @@
+package benchmarks;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.IntChannel;
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.ring.RingBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark using Java {@link Thread}s passing the sequence through {@link IntChannel}s,
+ * i.e., an allocation-free message path rather than the shared fields of {@link JavaThreadRingBenchmark.Worker}.
+ */
+@State(Scope.Benchmark)
+public class JavaThreadIntChannelRingBenchmark implements RingBenchmark {
+
+    static class Worker implements Runnable {
+
+        final IntChannel inbox = new IntChannel(1);
+
+        final int id;
+
+        final CountDownLatch startLatch;
+
+        final CompletionBarrier completionBarrier;
+
+        Worker next = null;
+
+        /**
+         * Last sequence taken from the {@link #inbox}, read after the completion.
+         */
+        int sequence;
+
+        Worker(int id, CountDownLatch startLatch, CompletionBarrier completionBarrier) {
+            this.id = id;
+            this.startLatch = startLatch;
+            this.completionBarrier = completionBarrier;
+        }
+
+        @Override
+        public void run() {
+            startLatch.countDown();
+            try {
+                // noinspection InfiniteLoopStatement
+                for (; ; ) {
+                    log("[%2d] taking", id);
+                    sequence = inbox.take();
+                    if (sequence <= 0) {
+                        log("[%2d] signaling completion", id);
+                        completionBarrier.signal();
+                    } else {
+                        log("[%2d] putting next", id);
+                        next.inbox.put(sequence - 1);
+                    }
+                }
+            } catch (InterruptedException ignored) {
+                log("[%2d] interrupted", id);
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+    private static final class Context implements AutoCloseable, Callable<int[]> {
+
+        private final CompletionBarrier completionBarrier = new CompletionBarrier();
+
+        private final int workerCount;
+
+        private final int messagePassingCount;
+
+        private final int[] sequences;
+
+        private final Worker[] workers;
+
+        private final Thread[] threads;
+
+        private Context(int workerCount, int messagePassingCount) {
+
+            this.workerCount = workerCount;
+            this.messagePassingCount = messagePassingCount;
+            this.sequences = new int[workerCount];
+
+            log("creating worker threads (workerCount=%d)", workerCount);
+            this.workers = new Worker[workerCount];
+            this.threads = new Thread[workerCount];
+            CountDownLatch startLatch = new CountDownLatch(workerCount);
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                Worker worker = new Worker(workerIndex, startLatch, completionBarrier);
+                workers[workerIndex] = worker;
+                threads[workerIndex] = new Thread(worker, "Worker-" + workerIndex);
+            }
+
+            log("setting next worker pointers");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                workers[workerIndex].next = workers[(workerIndex + 1) % workerCount];
+            }
+
+            log("starting threads");
+            for (Thread thread : threads) {
+                thread.start();
+            }
+
+            log("waiting for threads to start");
+            try {
+                startLatch.await();
+            } catch (InterruptedException ignored) {
+                log("start latch wait interrupted");
+                Thread.currentThread().interrupt();
+            }
+
+        }
+
+        @Override
+        public void close() throws Exception {
+
+            log("interrupting threads");
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+
+            log("waiting for threads to complete");
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+        }
+
+        @Override
+        public int[] call() {
+
+            int generation = completionBarrier.generation();
+            log("initiating the ring (messagePassingCount=%d)", messagePassingCount);
+            try {
+                workers[0].inbox.put(messagePassingCount);
+            } catch (InterruptedException ignored) {
+                log("ring initiation interrupted");
+                Thread.currentThread().interrupt();
+                return sequences;
+            }
+
+            log("waiting for completion");
+            completionBarrier.awaitAdvance(generation);
+
+            log("collecting sequences");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                sequences[workerIndex] = workers[workerIndex].sequence;
+            }
+
+            log("returning populated sequences (sequences=%s)", () -> new Object[]{Arrays.toString(sequences)});
+            return sequences;
+
+        }
+
+    }
+
+    private final Context context;
+
+    public JavaThreadIntChannelRingBenchmark() {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT);
+    }
+
+    public JavaThreadIntChannelRingBenchmark(int workerCount, int messagePassingCount) {
+        this.context = new Context(workerCount, messagePassingCount);
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaThreadIntChannelRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(THREAD_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("ThreadIntChannelRealization" + THREAD_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,223 @@
+package benchmarks;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.ring.Mailbox;
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BiFunction;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.ring.RingBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark using Java {@link Thread}s, each blocking on a {@link Mailbox} of its own, i.e., a
+ * {@link java.util.concurrent.SynchronousQueue SynchronousQueue}, an {@link java.util.concurrent.Exchanger Exchanger},
+ * a {@link java.util.concurrent.LinkedTransferQueue LinkedTransferQueue} or a lock-free
+ * {@link benchmarks.core.ConcurrentFifoQueue ConcurrentFifoQueue}, see
+ * {@link benchmarks.core.ring.RingBenchmarkConfig#MAILBOX MAILBOX}.
+ * <p>
+ * Sequences are boxed upfront, hence hops measure the hand-off rather than {@link Integer} allocations.
+ */
+@State(Scope.Benchmark)
+public class JavaThreadMailboxRingBenchmark implements RingBenchmark {
+
+    static class Worker implements Runnable {
+
+        final Mailbox inbox;
+
+        final int id;
+
+        final Integer[] boxedSequences;
+
+        final CountDownLatch startLatch;
+
+        final CompletionBarrier completionBarrier;
+
+        Worker next = null;
+
+        /**
+         * Last sequence taken from the {@link #inbox}, read after the completion.
+         */
+        int sequence;
+
+        Worker(int id, Mailbox inbox, Integer[] boxedSequences, CountDownLatch startLatch, CompletionBarrier completionBarrier) {
+            this.id = id;
+            this.inbox = inbox;
+            this.boxedSequences = boxedSequences;
+            this.startLatch = startLatch;
+            this.completionBarrier = completionBarrier;
+        }
+
+        @Override
+        public void run() {
+            startLatch.countDown();
+            try {
+                // noinspection InfiniteLoopStatement
+                for (; ; ) {
+                    log("[%2d] taking", id);
+                    sequence = inbox.take();
+                    if (sequence <= 0) {
+                        log("[%2d] signaling completion", id);
+                        completionBarrier.signal();
+                    } else {
+                        log("[%2d] putting next", id);
+                        next.inbox.put(boxedSequences[sequence - 1]);
+                    }
+                }
+            } catch (InterruptedException ignored) {
+                log("[%2d] interrupted", id);
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+    static final class Context implements AutoCloseable, Callable<int[]> {
+
+        private final CompletionBarrier completionBarrier = new CompletionBarrier();
+
+        private final int workerCount;
+
+        private final int messagePassingCount;
+
+        private final int[] sequences;
+
+        private final Integer[] boxedSequences;
+
+        private final Worker[] workers;
+
+        private final Thread[] threads;
+
+        Context(int workerCount, int messagePassingCount, Mailbox.Kind mailboxKind, BiFunction<String, Runnable, Thread> threadCreator) {
+
+            this.workerCount = workerCount;
+            this.messagePassingCount = messagePassingCount;
+            this.sequences = new int[workerCount];
+            this.boxedSequences = new Integer[messagePassingCount + 1];
+            for (int sequence = 0; sequence <= messagePassingCount; sequence++) {
+                // noinspection UnnecessaryBoxing
+                boxedSequences[sequence] = Integer.valueOf(sequence);
+            }
+
+            log("creating workers (workerCount=%d, mailboxKind=%s)", () -> new Object[]{workerCount, mailboxKind});
+            this.workers = new Worker[workerCount];
+            this.threads = new Thread[workerCount];
+            CountDownLatch startLatch = new CountDownLatch(workerCount);
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                Worker worker = new Worker(workerIndex, mailboxKind.create(), boxedSequences, startLatch, completionBarrier);
+                workers[workerIndex] = worker;
+                threads[workerIndex] = threadCreator.apply("Worker-" + workerIndex, worker);
+            }
+
+            log("setting next worker pointers");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                workers[workerIndex].next = workers[(workerIndex + 1) % workerCount];
+            }
+
+            log("starting threads");
+            for (Thread thread : threads) {
+                thread.start();
+            }
+
+            log("waiting for threads to start");
+            try {
+                startLatch.await();
+            } catch (InterruptedException ignored) {
+                log("start latch wait interrupted");
+                Thread.currentThread().interrupt();
+            }
+
+        }
+
+        @Override
+        public void close() throws Exception {
+
+            log("interrupting threads");
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+
+            log("waiting for threads to complete");
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+        }
+
+        @Override
+        public int[] call() {
+
+            int generation = completionBarrier.generation();
+            log("initiating the ring (messagePassingCount=%d)", messagePassingCount);
+            try {
+                workers[0].inbox.put(boxedSequences[messagePassingCount]);
+            } catch (InterruptedException ignored) {
+                log("ring initiation interrupted");
+                Thread.currentThread().interrupt();
+                return sequences;
+            }
+
+            log("waiting for completion");
+            completionBarrier.awaitAdvance(generation);
+
+            log("collecting sequences");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                sequences[workerIndex] = workers[workerIndex].sequence;
+            }
+
+            log("returning populated sequences (sequences=%s)", () -> new Object[]{Arrays.toString(sequences)});
+            return sequences;
+
+        }
+
+    }
+
+    private final Context context;
+
+    public JavaThreadMailboxRingBenchmark() {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT, MAILBOX);
+    }
+
+    public JavaThreadMailboxRingBenchmark(int workerCount, int messagePassingCount, Mailbox.Kind mailboxKind) {
+        this.context = new Context(workerCount, messagePassingCount, mailboxKind, (threadName, task) -> new Thread(task, threadName));
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaThreadMailboxRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(THREAD_COUNT)
+                .jvmArgsAppend("-Dring.mailbox=" + MAILBOX)
+                .resultFormat(ResultFormatType.JSON)
+                .result("ThreadMailboxRealization" + MAILBOX + THREAD_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,240 @@
+package benchmarks;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.ring.RingBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark using Java {@link Thread}s handing off via {@code synchronized} blocks and
+ * {@link Object#wait()}/{@link Object#notify()} rather than the {@link java.util.concurrent.locks.ReentrantLock ReentrantLock}
+ * and {@link java.util.concurrent.locks.Condition Condition} of {@link JavaThreadRingBenchmark.Worker}.
+ */
+@State(Scope.Benchmark)
+public class JavaThreadMonitorRingBenchmark implements RingBenchmark {
+
+    static class Worker implements Runnable {
+
+        /**
+         * Guards {@link #waiting} and {@link #sequence}.
+         */
+        final Object monitor = new Object();
+
+        final int id;
+
+        final CountDownLatch startLatch;
+
+        final CompletionBarrier completionBarrier;
+
+        Worker next = null;
+
+        boolean waiting = true;
+
+        int sequence;
+
+        Worker(int id, CountDownLatch startLatch, CompletionBarrier completionBarrier) {
+            this.id = id;
+            this.startLatch = startLatch;
+            this.completionBarrier = completionBarrier;
+        }
+
+        @Override
+        public void run() {
+            startLatch.countDown();
+            log("[%2d] entering monitor", id);
+            synchronized (monitor) {
+                try {
+                    // noinspection InfiniteLoopStatement
+                    for (; ; ) {
+                        if (!waiting) {
+                            if (sequence <= 0) {
+                                complete();
+                            } else {
+                                signalNext();
+                            }
+                        }
+                        await();
+                    }
+                } catch (InterruptedException ignored) {
+                    log("[%2d] interrupted", id);
+                    Thread.currentThread().interrupt();
+                } finally {
+                    log("[%2d] exiting monitor", id);
+                }
+            }
+        }
+
+        private void complete() {
+            log("[%2d] signaling completion (sequence=%d)", id, sequence);
+            waiting = true;
+            completionBarrier.signal();
+        }
+
+        private void signalNext() {
+            log("[%2d] entering next monitor", id);
+            synchronized (next.monitor) {
+                log("[%2d] signaling next", id);
+                if (!next.waiting) {
+                    String message = String.format("%s was expecting %s to be waiting", id, next.id);
+                    throw new IllegalStateException(message);
+                }
+                next.sequence = sequence - 1;
+                next.waiting = false;
+                waiting = true;
+                next.monitor.notify();
+            }
+            log("[%2d] exited next monitor", id);
+        }
+
+        private void await() throws InterruptedException {
+            while (waiting) {
+                log("[%2d] awaiting", id);
+                monitor.wait();
+                log("[%2d] woke up (sequence=%d)", id, sequence);
+            }
+        }
+
+    }
+
+    private static final class Context implements AutoCloseable, Callable<int[]> {
+
+        private final CompletionBarrier completionBarrier = new CompletionBarrier();
+
+        private final int workerCount;
+
+        private final int messagePassingCount;
+
+        private final int[] sequences;
+
+        private final Worker[] workers;
+
+        private final Thread[] threads;
+
+        private Context(int workerCount, int messagePassingCount) {
+
+            this.workerCount = workerCount;
+            this.messagePassingCount = messagePassingCount;
+            this.sequences = new int[workerCount];
+
+            log("creating worker threads (workerCount=%d)", workerCount);
+            this.workers = new Worker[workerCount];
+            this.threads = new Thread[workerCount];
+            CountDownLatch startLatch = new CountDownLatch(workerCount);
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                Worker worker = new Worker(workerIndex, startLatch, completionBarrier);
+                workers[workerIndex] = worker;
+                threads[workerIndex] = new Thread(worker, "Worker-" + workerIndex);
+            }
+
+            log("setting next worker pointers");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                workers[workerIndex].next = workers[(workerIndex + 1) % workerCount];
+            }
+
+            log("starting threads");
+            for (Thread thread : threads) {
+                thread.start();
+            }
+
+            log("waiting for threads to start");
+            try {
+                startLatch.await();
+            } catch (InterruptedException ignored) {
+                log("start latch wait interrupted");
+                Thread.currentThread().interrupt();
+            }
+
+        }
+
+        @Override
+        public void close() throws Exception {
+
+            log("interrupting threads");
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+
+            log("waiting for threads to complete");
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+        }
+
+        @Override
+        public int[] call() {
+
+            int generation = completionBarrier.generation();
+            log("initiating the ring (messagePassingCount=%d)", messagePassingCount);
+            Worker firstWorker = workers[0];
+            synchronized (firstWorker.monitor) {
+                firstWorker.sequence = messagePassingCount;
+                firstWorker.waiting = false;
+                firstWorker.monitor.notify();
+            }
+
+            log("waiting for completion");
+            completionBarrier.awaitAdvance(generation);
+
+            log("collecting sequences");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                sequences[workerIndex] = workers[workerIndex].sequence;
+            }
+
+            log("returning populated sequences (sequences=%s)", () -> new Object[]{Arrays.toString(sequences)});
+            return sequences;
+
+        }
+
+    }
+
+    private final Context context;
+
+    public JavaThreadMonitorRingBenchmark() {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT);
+    }
+
+    public JavaThreadMonitorRingBenchmark(int workerCount, int messagePassingCount) {
+        this.context = new Context(workerCount, messagePassingCount);
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaThreadMonitorRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(THREAD_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("ThreadMonitorRealization" + THREAD_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
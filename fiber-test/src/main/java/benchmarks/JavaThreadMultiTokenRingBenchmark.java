@@ -0,0 +1,272 @@
+package benchmarks;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.ring.RingBenchmarkConfig.*;
+import static benchmarks.core.ring.RingTokenHelper.tokenStartIndex;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark using Java {@link Thread}s passing {@link benchmarks.core.ring.RingBenchmarkConfig#TOKEN_COUNT TOKEN_COUNT}
+ * tokens around the ring at the same time.
+ * <p>
+ * Every token is injected to an evenly spaced worker and makes {@link benchmarks.core.ring.RingBenchmarkConfig#MESSAGE_PASSING_COUNT MESSAGE_PASSING_COUNT}
+ * hops, hence a single invocation makes {@code TOKEN_COUNT * MESSAGE_PASSING_COUNT} hops in total.
+ * The returned sequences contain the minimum sequence received by each worker.
+ */
+@State(Scope.Benchmark)
+public class JavaThreadMultiTokenRingBenchmark implements RingBenchmark {
+
+    static class Worker implements Runnable {
+
+        final Lock lock = new ReentrantLock();
+
+        final Condition notEmptyCondition = lock.newCondition();
+
+        final int id;
+
+        final CountDownLatch startLatch;
+
+        final CompletionBarrier completion;
+
+        /**
+         * Mailbox of tokens, i.e., remaining hop counts, guarded by {@link #lock}.
+         */
+        final int[] mailbox;
+
+        int mailboxHeadIndex = 0;
+
+        int mailboxSize = 0;
+
+        Worker next = null;
+
+        int minSequence = Integer.MAX_VALUE;
+
+        Worker(int id, int tokenCount, CountDownLatch startLatch, CompletionBarrier completion) {
+            this.id = id;
+            this.mailbox = new int[tokenCount];
+            this.startLatch = startLatch;
+            this.completion = completion;
+        }
+
+        @Override
+        public void run() {
+            startLatch.countDown();
+            try {
+                // noinspection InfiniteLoopStatement
+                for (; ; ) {
+                    int sequence = take();
+                    if (sequence < minSequence) {
+                        minSequence = sequence;
+                    }
+                    if (sequence <= 0) {
+                        log("[%2d] signaling completion", id);
+                        completion.signal();
+                    } else {
+                        next.put(sequence - 1);
+                    }
+                }
+            } catch (InterruptedException ignored) {
+                log("[%2d] interrupted", id);
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void put(int sequence) {
+            lock.lock();
+            try {
+                if (mailboxSize == mailbox.length) {
+                    String message = String.format("%s was expecting a free mailbox slot", id);
+                    throw new IllegalStateException(message);
+                }
+                mailbox[(mailboxHeadIndex + mailboxSize) % mailbox.length] = sequence;
+                mailboxSize++;
+                notEmptyCondition.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int take() throws InterruptedException {
+            lock.lock();
+            try {
+                while (mailboxSize == 0) {
+                    log("[%2d] awaiting", id);
+                    notEmptyCondition.await();
+                }
+                int sequence = mailbox[mailboxHeadIndex];
+                mailboxHeadIndex = (mailboxHeadIndex + 1) % mailbox.length;
+                mailboxSize--;
+                return sequence;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+    }
+
+    static Worker[] createWorkers(int workerCount, int tokenCount, CountDownLatch startLatch, CompletionBarrier completion) {
+        if (tokenCount > workerCount) {
+            String message = String.format("token count cannot exceed worker count (tokenCount=%d, workerCount=%d)", tokenCount, workerCount);
+            throw new IllegalArgumentException(message);
+        }
+        Worker[] workers = new Worker[workerCount];
+        for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+            workers[workerIndex] = new Worker(workerIndex, tokenCount, startLatch, completion);
+        }
+        for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+            workers[workerIndex].next = workers[(workerIndex + 1) % workerCount];
+        }
+        return workers;
+    }
+
+    static int[] circulate(Worker[] workers, int tokenCount, int messagePassingCount, CompletionBarrier completion, int[] sequences) {
+
+        log("resetting workers");
+        for (Worker worker : workers) {
+            worker.minSequence = Integer.MAX_VALUE;
+        }
+
+        log("injecting tokens (tokenCount=%d, messagePassingCount=%d)", tokenCount, messagePassingCount);
+        int generation = completion.generation();
+        for (int tokenIndex = 0; tokenIndex < tokenCount; tokenIndex++) {
+            workers[tokenStartIndex(tokenIndex, tokenCount, workers.length)].put(messagePassingCount);
+        }
+
+        log("waiting for completion");
+        completion.awaitAdvance(generation);
+
+        log("collecting sequences");
+        for (int workerIndex = 0; workerIndex < workers.length; workerIndex++) {
+            sequences[workerIndex] = workers[workerIndex].minSequence;
+        }
+
+        log("returning populated sequences (sequences=%s)", () -> new Object[]{Arrays.toString(sequences)});
+        return sequences;
+
+    }
+
+    private static final class Context implements AutoCloseable, Callable<int[]> {
+
+        private final CompletionBarrier completion;
+
+        private final int messagePassingCount;
+
+        private final int[] sequences;
+
+        private final int tokenCount;
+
+        private final Worker[] workers;
+
+        private final Thread[] threads;
+
+        private Context(int workerCount, int messagePassingCount, int tokenCount) {
+
+            this.messagePassingCount = messagePassingCount;
+            this.sequences = new int[workerCount];
+            this.tokenCount = tokenCount;
+            this.completion = new CompletionBarrier(tokenCount);
+
+            log("creating worker threads (workerCount=%d)", workerCount);
+            CountDownLatch startLatch = new CountDownLatch(workerCount);
+            this.workers = createWorkers(workerCount, tokenCount, startLatch, completion);
+            this.threads = new Thread[workerCount];
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                threads[workerIndex] = new Thread(workers[workerIndex], "Worker-" + workerIndex);
+            }
+
+            log("starting threads");
+            for (Thread thread : threads) {
+                thread.start();
+            }
+
+            log("waiting for threads to start");
+            try {
+                startLatch.await();
+            } catch (InterruptedException ignored) {
+                log("start latch wait interrupted");
+                Thread.currentThread().interrupt();
+            }
+
+        }
+
+        @Override
+        public void close() throws Exception {
+
+            log("interrupting threads");
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+
+            log("waiting for threads to complete");
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+        }
+
+        @Override
+        public int[] call() {
+            return circulate(workers, tokenCount, messagePassingCount, completion, sequences);
+        }
+
+    }
+
+    private final Context context;
+
+    public JavaThreadMultiTokenRingBenchmark() {
+        this(TOKEN_COUNT);
+    }
+
+    public JavaThreadMultiTokenRingBenchmark(int tokenCount) {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT, tokenCount);
+    }
+
+    public JavaThreadMultiTokenRingBenchmark(int workerCount, int messagePassingCount, int tokenCount) {
+        this.context = new Context(workerCount, messagePassingCount, tokenCount);
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaThreadMultiTokenRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(THREAD_COUNT)
+                .jvmArgsAppend("-Dring.tokenCount=" + TOKEN_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("ThreadMultiTokenRealization" + TOKEN_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,264 @@
+package benchmarks;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.WaitStrategy;
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.ring.RingBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark using Java {@link Thread}s handing off via a single state word and, unless spinning,
+ * {@link LockSupport#park(Object)} and {@link LockSupport#unpark(Thread)}.
+ * <p>
+ * Contrary to {@link JavaThreadRingBenchmark.Worker}, there are no locks or conditions involved, hence no allocation per hop.
+ * Workers wait according to the {@link benchmarks.core.ring.RingBenchmarkConfig#WAIT_STRATEGY WAIT_STRATEGY}.
+ */
+@State(Scope.Benchmark)
+public class JavaThreadParkingRingBenchmark implements RingBenchmark {
+
+    static class Worker implements Runnable {
+
+        static final int WAITING = 0;
+
+        static final int SIGNALLED = 1;
+
+        private static final VarHandle STATE;
+
+        static {
+            try {
+                STATE = MethodHandles.lookup().findVarHandle(Worker.class, "state", int.class);
+            } catch (ReflectiveOperationException error) {
+                throw new ExceptionInInitializerError(error);
+            }
+        }
+
+        final int id;
+
+        final CountDownLatch startLatch;
+
+        final CompletionBarrier completionBarrier;
+
+        final WaitStrategy waitStrategy;
+
+        Worker next = null;
+
+        /**
+         * Published to the signalling workers by the start latch.
+         */
+        Thread thread = null;
+
+        /**
+         * Accessed via {@link #STATE} only.
+         */
+        @SuppressWarnings("unused")
+        private int state = WAITING;
+
+        /**
+         * Written before and read after the release/acquire of {@link #state}.
+         */
+        int sequence;
+
+        Worker(int id, CountDownLatch startLatch, CompletionBarrier completionBarrier, WaitStrategy waitStrategy) {
+            this.id = id;
+            this.startLatch = startLatch;
+            this.completionBarrier = completionBarrier;
+            this.waitStrategy = waitStrategy;
+        }
+
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+            startLatch.countDown();
+            while (await()) {
+                STATE.setOpaque(this, WAITING);
+                if (sequence <= 0) {
+                    complete();
+                } else {
+                    signalNext();
+                }
+            }
+            log("[%2d] interrupted", id);
+        }
+
+        private void complete() {
+            log("[%2d] signaling completion (sequence=%d)", id, sequence);
+            completionBarrier.signal();
+        }
+
+        private void signalNext() {
+            log("[%2d] signaling next", id);
+            if ((int) STATE.getAcquire(next) != WAITING) {
+                String message = String.format("%s was expecting %s to be waiting", id, next.id);
+                throw new IllegalStateException(message);
+            }
+            next.signal(sequence - 1);
+        }
+
+        void signal(int sequence) {
+            this.sequence = sequence;
+            STATE.setRelease(this, SIGNALLED);
+            waitStrategy.wake(thread);
+        }
+
+        /**
+         * @return {@code true} if signalled, {@code false} if interrupted
+         */
+        private boolean await() {
+            int idleCount = 0;
+            while ((int) STATE.getAcquire(this) == WAITING) {
+                idleCount = waitStrategy.idle(idleCount, this);
+                if (Thread.currentThread().isInterrupted()) {
+                    return false;
+                }
+            }
+            log("[%2d] woke up", id);
+            waitStrategy.signalled(idleCount);
+            return true;
+        }
+
+    }
+
+    private static final class Context implements AutoCloseable, Callable<int[]> {
+
+        private final CompletionBarrier completionBarrier = new CompletionBarrier();
+
+        private final int workerCount;
+
+        private final int messagePassingCount;
+
+        private final int[] sequences;
+
+        private final Worker[] workers;
+
+        private final Thread[] threads;
+
+        private Context(int workerCount, int messagePassingCount) {
+
+            this.workerCount = workerCount;
+            this.messagePassingCount = messagePassingCount;
+            this.sequences = new int[workerCount];
+
+            log("creating worker threads (workerCount=%d)", workerCount);
+            this.workers = new Worker[workerCount];
+            this.threads = new Thread[workerCount];
+            CountDownLatch startLatch = new CountDownLatch(workerCount);
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                WaitStrategy waitStrategy = WaitStrategy.create(WAIT_STRATEGY, SPIN_COUNT);
+                Worker worker = new Worker(workerIndex, startLatch, completionBarrier, waitStrategy);
+                workers[workerIndex] = worker;
+                threads[workerIndex] = new Thread(worker, "Worker-" + workerIndex);
+            }
+
+            log("setting next worker pointers");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                workers[workerIndex].next = workers[(workerIndex + 1) % workerCount];
+            }
+
+            log("starting threads");
+            for (Thread thread : threads) {
+                thread.start();
+            }
+
+            log("waiting for threads to start");
+            try {
+                startLatch.await();
+            } catch (InterruptedException ignored) {
+                log("start latch wait interrupted");
+                Thread.currentThread().interrupt();
+            }
+
+        }
+
+        @Override
+        public void close() throws Exception {
+
+            log("interrupting threads");
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+
+            log("waiting for threads to complete");
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+        }
+
+        @Override
+        public int[] call() {
+
+            int generation = completionBarrier.generation();
+            log("initiating the ring (messagePassingCount=%d)", messagePassingCount);
+            workers[0].signal(messagePassingCount);
+
+            log("waiting for completion");
+            completionBarrier.awaitAdvance(generation);
+
+            log("collecting sequences");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                sequences[workerIndex] = workers[workerIndex].sequence;
+            }
+
+            log("returning populated sequences (sequences=%s)", () -> new Object[]{Arrays.toString(sequences)});
+            return sequences;
+
+        }
+
+    }
+
+    private final Context context;
+
+    public JavaThreadParkingRingBenchmark() {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT);
+    }
+
+    public JavaThreadParkingRingBenchmark(int workerCount, int messagePassingCount) {
+        this.context = new Context(workerCount, messagePassingCount);
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaThreadParkingRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(THREAD_COUNT)
+                .jvmArgsAppend(
+                        "-Dring.waitStrategy=" + WAIT_STRATEGY,
+                        "-Dring.spinCount=" + SPIN_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("ThreadParkingRealization" + THREAD_COUNT + WAIT_STRATEGY + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,213 @@
+package benchmarks;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.LatencyHistogram;
+import benchmarks.core.SingletonSynchronizer;
+import benchmarks.core.pingpong.PingPongBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BiFunction;
+
+import static benchmarks.core.DurationHelper.formatDurationNanos;
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.pingpong.PingPongBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ping-pong benchmark using Java {@link Thread}s.
+ * <p>
+ * The pong side is a {@link JavaThreadRingBenchmark.Worker} whose next worker is the ping side, which in turn is
+ * driven by a dedicated pinger thread following the very same lock, condition and sequence protocol.
+ * Every round trip, i.e., two hand-offs, is recorded into a {@link LatencyHistogram} by the pinger,
+ * and the percentiles are reported after every JMH iteration.
+ */
+@State(Scope.Benchmark)
+public class JavaThreadPingPongBenchmark implements PingPongBenchmark {
+
+    static final class Context implements AutoCloseable, Callable<Integer> {
+
+        private final String name;
+
+        private final SingletonSynchronizer startSynchronizer = new SingletonSynchronizer();
+
+        private final CompletionBarrier completionBarrier = new CompletionBarrier();
+
+        private final LatencyHistogram histogram = new LatencyHistogram(HISTOGRAM_PRECISION_BITS);
+
+        private final JavaThreadRingBenchmark.Worker ping;
+
+        private final JavaThreadRingBenchmark.Worker pong;
+
+        private final Thread pingerThread;
+
+        private final Thread pongThread;
+
+        /**
+         * Written by the pinger before signalling completion.
+         */
+        private int roundTripCount;
+
+        Context(String name, BiFunction<String, Runnable, Thread> threadCreator) {
+
+            this.name = name;
+
+            log("creating workers (name=%s)", name);
+            CountDownLatch startLatch = new CountDownLatch(2);
+            this.ping = new JavaThreadRingBenchmark.Worker(0, startLatch, completionBarrier);
+            this.pong = new JavaThreadRingBenchmark.Worker(1, startLatch, completionBarrier);
+            ping.next = pong;
+            pong.next = ping;
+            this.pingerThread = threadCreator.apply("Pinger", () -> {
+                startLatch.countDown();
+                runPinger();
+            });
+            this.pongThread = threadCreator.apply("Ponger", pong);
+
+            log("starting threads");
+            pingerThread.start();
+            pongThread.start();
+
+            log("waiting for threads to start");
+            try {
+                startLatch.await();
+            } catch (InterruptedException ignored) {
+                log("start latch wait interrupted");
+                Thread.currentThread().interrupt();
+            }
+
+        }
+
+        private void runPinger() {
+            for (; ; ) {
+                startSynchronizer.await();
+                if (Thread.currentThread().isInterrupted()) {
+                    log("pinger interrupted");
+                    return;
+                }
+                try {
+                    roundTripCount = pingPong();
+                } catch (InterruptedException ignored) {
+                    log("pinger interrupted");
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                completionBarrier.signal();
+            }
+        }
+
+        private int pingPong() throws InterruptedException {
+            for (int roundTripIndex = 0; roundTripIndex < ROUND_TRIP_COUNT; roundTripIndex++) {
+                long startTimeNanos = System.nanoTime();
+                pong.lock.lock();
+                try {
+                    pong.sequence = 1;
+                    pong.waiting = false;
+                    pong.waitingCondition.signal();
+                } finally {
+                    pong.lock.unlock();
+                }
+                ping.lock.lock();
+                try {
+                    while (ping.waiting) {
+                        ping.waitingCondition.await();
+                    }
+                    ping.waiting = true;
+                } finally {
+                    ping.lock.unlock();
+                }
+                histogram.record(System.nanoTime() - startTimeNanos);
+            }
+            return ROUND_TRIP_COUNT;
+        }
+
+        /**
+         * Reports the round trip latencies recorded since the last report.
+         */
+        void report() {
+            if (histogram.totalCount() == 0) {
+                return;
+            }
+            System.out.format(
+                    "ping-pong (name=%s, roundTripCount=%d): round trip p50=%s p99=%s p99.9=%s max=%s%n",
+                    name, histogram.totalCount(),
+                    formatDurationNanos(histogram.valueAtPercentile(50)),
+                    formatDurationNanos(histogram.valueAtPercentile(99)),
+                    formatDurationNanos(histogram.valueAtPercentile(99.9)),
+                    formatDurationNanos(histogram.maxValue()));
+            histogram.reset();
+        }
+
+        @Override
+        public void close() throws Exception {
+
+            report();
+
+            log("interrupting threads");
+            pingerThread.interrupt();
+            pongThread.interrupt();
+
+            log("waiting for threads to complete");
+            pingerThread.join();
+            pongThread.join();
+
+        }
+
+        @Override
+        public Integer call() {
+
+            int generation = completionBarrier.generation();
+            log("initiating the ping-pong (ROUND_TRIP_COUNT=%d)", ROUND_TRIP_COUNT);
+            startSynchronizer.signal();
+
+            log("waiting for completion");
+            completionBarrier.awaitAdvance(generation);
+
+            return roundTripCount;
+
+        }
+
+    }
+
+    private final Context context = new Context("thread", (threadName, task) -> new Thread(task, threadName));
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        context.report();
+    }
+
+    @Override
+    @Benchmark
+    public int pingPongBenchmark() {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaThreadPingPongBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .jvmArgsAppend("-DpingPong.roundTripCount=" + ROUND_TRIP_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("ThreadPingPongRealization_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,268 @@
+package benchmarks;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.Pipe;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.ring.RingBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark using Java {@link Thread}s, each blocking on reading the token from a {@link Pipe} of its own and
+ * writing the next token to the {@link Pipe} of the next worker.
+ * <p>
+ * Unlike the rest of the rings, every hop is a pair of system calls, hence this ring shows how I/O-bound hand-offs
+ * compare to the lock-based {@link JavaThreadRingBenchmark.Worker}.
+ */
+@State(Scope.Benchmark)
+public class JavaThreadPipeRingBenchmark implements RingBenchmark {
+
+    static class Worker implements Runnable {
+
+        final Pipe pipe;
+
+        final int id;
+
+        final CountDownLatch startLatch;
+
+        final CompletionBarrier completionBarrier;
+
+        final Consumer<IOException> failureHandler;
+
+        private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(Integer.BYTES);
+
+        private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(Integer.BYTES);
+
+        Worker next = null;
+
+        /**
+         * Last sequence read from the {@link #pipe}, read after the completion. Volatile, since pipe I/O does not
+         * establish a happens-before edge between the workers, unlike the hand-off of a queue.
+         */
+        volatile int sequence;
+
+        Worker(int id, CountDownLatch startLatch, CompletionBarrier completionBarrier, Consumer<IOException> failureHandler) throws IOException {
+            this.id = id;
+            this.pipe = Pipe.open();
+            this.startLatch = startLatch;
+            this.completionBarrier = completionBarrier;
+            this.failureHandler = failureHandler;
+        }
+
+        @Override
+        public void run() {
+            startLatch.countDown();
+            try {
+                // noinspection InfiniteLoopStatement
+                for (; ; ) {
+                    log("[%2d] reading", id);
+                    sequence = read(pipe.source(), readBuffer);
+                    if (sequence <= 0) {
+                        log("[%2d] signaling completion", id);
+                        completionBarrier.signal();
+                    } else {
+                        log("[%2d] writing next", id);
+                        write(next.pipe.sink(), writeBuffer, sequence - 1);
+                    }
+                }
+            } catch (ClosedByInterruptException ignored) {
+                log("[%2d] interrupted", id);
+            } catch (IOException error) {
+                log("[%2d] I/O failure: %s", () -> new Object[]{id, error.getMessage()});
+                failureHandler.accept(error);
+            }
+        }
+
+    }
+
+    static int read(Pipe.SourceChannel source, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining()) {
+            if (source.read(buffer) < 0) {
+                throw new IOException("pipe closed");
+            }
+        }
+        return buffer.getInt(0);
+    }
+
+    static void write(Pipe.SinkChannel sink, ByteBuffer buffer, int sequence) throws IOException {
+        buffer.clear();
+        buffer.putInt(sequence);
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            sink.write(buffer);
+        }
+    }
+
+    static final class Context implements AutoCloseable, Callable<int[]> {
+
+        private final CompletionBarrier completionBarrier = new CompletionBarrier();
+
+        private final ByteBuffer initiationBuffer = ByteBuffer.allocateDirect(Integer.BYTES);
+
+        private final int workerCount;
+
+        private final int messagePassingCount;
+
+        private final int[] sequences;
+
+        private final Worker[] workers;
+
+        private final Thread[] threads;
+
+        @Nullable
+        private volatile IOException failure = null;
+
+        Context(int workerCount, int messagePassingCount, BiFunction<String, Runnable, Thread> threadCreator) throws IOException {
+
+            this.workerCount = workerCount;
+            this.messagePassingCount = messagePassingCount;
+            this.sequences = new int[workerCount];
+
+            log("creating workers (workerCount=%d)", workerCount);
+            this.workers = new Worker[workerCount];
+            this.threads = new Thread[workerCount];
+            CountDownLatch startLatch = new CountDownLatch(workerCount);
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                Worker worker = new Worker(workerIndex, startLatch, completionBarrier, this::fail);
+                workers[workerIndex] = worker;
+                threads[workerIndex] = threadCreator.apply("Worker-" + workerIndex, worker);
+            }
+
+            log("setting next worker pointers");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                workers[workerIndex].next = workers[(workerIndex + 1) % workerCount];
+            }
+
+            log("starting threads");
+            for (Thread thread : threads) {
+                thread.start();
+            }
+
+            log("waiting for threads to start");
+            try {
+                startLatch.await();
+            } catch (InterruptedException ignored) {
+                log("start latch wait interrupted");
+                Thread.currentThread().interrupt();
+            }
+
+        }
+
+        /**
+         * Records the first failure and wakes up a pending {@link #call()}, since the token is lost.
+         */
+        private void fail(IOException error) {
+            if (failure == null) {
+                failure = error;
+                completionBarrier.signal();
+            }
+        }
+
+        private void checkFailure() throws IOException {
+            IOException error = failure;
+            if (error != null) {
+                throw new IOException("ring failed", error);
+            }
+        }
+
+        @Override
+        public void close() throws Exception {
+
+            log("interrupting threads");
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+
+            log("waiting for threads to complete");
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            log("closing pipes");
+            for (Worker worker : workers) {
+                worker.pipe.source().close();
+                worker.pipe.sink().close();
+            }
+
+        }
+
+        @Override
+        public int[] call() throws IOException {
+
+            int generation = completionBarrier.generation();
+            checkFailure();
+            log("initiating the ring (messagePassingCount=%d)", messagePassingCount);
+            write(workers[0].pipe.sink(), initiationBuffer, messagePassingCount);
+
+            log("waiting for completion");
+            completionBarrier.awaitAdvance(generation);
+            checkFailure();
+
+            log("collecting sequences");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                sequences[workerIndex] = workers[workerIndex].sequence;
+            }
+
+            log("returning populated sequences (sequences=%s)", () -> new Object[]{Arrays.toString(sequences)});
+            return sequences;
+
+        }
+
+    }
+
+    private final Context context;
+
+    public JavaThreadPipeRingBenchmark() throws IOException {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT);
+    }
+
+    public JavaThreadPipeRingBenchmark(int workerCount, int messagePassingCount) throws IOException {
+        this.context = new Context(workerCount, messagePassingCount, (threadName, task) -> new Thread(task, threadName));
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() throws IOException {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaThreadPipeRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(THREAD_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("ThreadPipeRealization" + THREAD_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
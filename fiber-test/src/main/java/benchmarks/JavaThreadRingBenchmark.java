@@ -1,8 +1,15 @@
 package benchmarks;
 
-import benchmarks.core.SingletonSynchronizer;
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.ring.HandoffEvent;
+import benchmarks.core.ring.HopTrace;
+import benchmarks.core.ring.HopTracer;
+import benchmarks.core.ring.ParkEvent;
 import benchmarks.core.ring.RingBenchmark;
+import benchmarks.core.ring.RingCompletedEvent;
+import benchmarks.core.ring.WakeEvent;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
@@ -12,6 +19,7 @@ import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import test.Test;
 
+import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
@@ -26,6 +34,12 @@ import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
 
 /**
  * Ring benchmark using Java {@link Thread}s.
+ * <p>
+ * If {@link benchmarks.core.ring.RingBenchmarkConfig#HOP_TRACING HOP_TRACING} is enabled, every hop is stamped into
+ * preallocated {@link HopTrace}s, which are folded after every invocation and reported after every JMH iteration.
+ * If {@link benchmarks.core.ring.RingBenchmarkConfig#JFR_EVENTS JFR_EVENTS} is enabled, workers emit
+ * {@link HandoffEvent}s, {@link ParkEvent}s, {@link WakeEvent}s and {@link RingCompletedEvent}s, see
+ * {@link benchmarks.core.ring.RingJfrProfiler}. Both are constant-folded away by the JIT when disabled.
  */
 @State(Scope.Benchmark)
 public class JavaThreadRingBenchmark implements RingBenchmark {
@@ -40,7 +54,13 @@ public class JavaThreadRingBenchmark implements RingBenchmark {
 
         final CountDownLatch startLatch;
 
-        final SingletonSynchronizer completionSynchronizer;
+        final CompletionBarrier completionBarrier;
+
+        /**
+         * Stamped by the signalling worker and by this worker, both while holding {@link #lock}.
+         */
+        @Nullable
+        final HopTrace hopTrace;
 
         Worker next = null;
 
@@ -48,10 +68,15 @@ public class JavaThreadRingBenchmark implements RingBenchmark {
 
         int sequence;
 
-        Worker(int id, CountDownLatch startLatch, SingletonSynchronizer completionSynchronizer) {
+        Worker(int id, CountDownLatch startLatch, CompletionBarrier completionBarrier) {
+            this(id, startLatch, completionBarrier, null);
+        }
+
+        Worker(int id, CountDownLatch startLatch, CompletionBarrier completionBarrier, @Nullable HopTrace hopTrace) {
             this.id = id;
             this.startLatch = startLatch;
-            this.completionSynchronizer = completionSynchronizer;
+            this.completionBarrier = completionBarrier;
+            this.hopTrace = hopTrace;
         }
 
         @Override
@@ -81,13 +106,24 @@ public class JavaThreadRingBenchmark implements RingBenchmark {
         }
 
         private void complete() {
-            log("[%2d] signaling completion (sequence=%d)", () -> new Object[]{id, sequence});
+            log("[%2d] signaling completion (sequence=%d)", id, sequence);
             waiting = true;
-            completionSynchronizer.signal();
+            if (JFR_EVENTS) {
+                RingCompletedEvent completedEvent = new RingCompletedEvent();
+                completedEvent.workerId = id;
+                completedEvent.commit();
+            }
+            completionBarrier.signal();
         }
 
         private void signalNext() {
             log("[%2d] locking next", id);
+            HandoffEvent handoffEvent = null;
+            if (JFR_EVENTS) {
+                handoffEvent = new HandoffEvent();
+                handoffEvent.begin();
+            }
+            long lockStartTimeNanos = next.hopTrace != null ? System.nanoTime() : 0;
             next.lock.lock();
             try {
                 log("[%2d] signaling next", id);
@@ -98,18 +134,45 @@ public class JavaThreadRingBenchmark implements RingBenchmark {
                 next.sequence = sequence - 1;
                 next.waiting = false;
                 waiting = true;
+                if (next.hopTrace != null) {
+                    next.hopTrace.signalled(lockStartTimeNanos, System.nanoTime());
+                }
                 next.waitingCondition.signal();
             } finally {
                 log("[%2d] unlocking next", id);
                 next.lock.unlock();
             }
+            if (handoffEvent != null) {
+                handoffEvent.fromWorkerId = id;
+                handoffEvent.toWorkerId = next.id;
+                handoffEvent.sequence = sequence - 1;
+                handoffEvent.commit();
+            }
         }
 
         private void await() throws InterruptedException {
             while (waiting) {
                 log("[%2d] awaiting", id);
+                ParkEvent parkEvent = null;
+                if (JFR_EVENTS) {
+                    parkEvent = new ParkEvent();
+                    parkEvent.begin();
+                }
                 waitingCondition.await();
-                log("[%2d] woke up (sequence=%d)", () -> new Object[]{id, sequence});
+                if (parkEvent != null) {
+                    parkEvent.workerId = id;
+                    parkEvent.commit();
+                }
+                log("[%2d] woke up (sequence=%d)", id, sequence);
+            }
+            if (hopTrace != null) {
+                hopTrace.wokeUp(System.nanoTime());
+            }
+            if (JFR_EVENTS) {
+                WakeEvent wakeEvent = new WakeEvent();
+                wakeEvent.workerId = id;
+                wakeEvent.sequence = sequence;
+                wakeEvent.commit();
             }
         }
 
@@ -117,29 +180,44 @@ public class JavaThreadRingBenchmark implements RingBenchmark {
 
     private static final class Context implements AutoCloseable, Callable<int[]> {
 
-        private final SingletonSynchronizer completionSynchronizer = new SingletonSynchronizer();
+        private final CompletionBarrier completionBarrier = new CompletionBarrier();
+
+        private final int workerCount;
+
+        private final int messagePassingCount;
+
+        private final int[] sequences;
 
-        private final int[] sequences = new int[WORKER_COUNT];
+        @Nullable
+        private final HopTracer hopTracer;
 
         private final Worker[] workers;
 
         private final Thread[] threads;
 
-        private Context() {
-
-            log("creating worker threads (WORKER_COUNT=%d)", WORKER_COUNT);
-            this.workers = new Worker[WORKER_COUNT];
-            this.threads = new Thread[WORKER_COUNT];
-            CountDownLatch startLatch = new CountDownLatch(WORKER_COUNT);
-            for (int workerIndex = 0; workerIndex < WORKER_COUNT; workerIndex++) {
-                Worker worker = new Worker(workerIndex, startLatch, completionSynchronizer);
+        private Context(int workerCount, int messagePassingCount) {
+
+            this.workerCount = workerCount;
+            this.messagePassingCount = messagePassingCount;
+            this.sequences = new int[workerCount];
+            this.hopTracer = HOP_TRACING
+                    ? new HopTracer(workerCount, HopTracer.singleTokenHopCapacity(workerCount, messagePassingCount))
+                    : null;
+
+            log("creating worker threads (workerCount=%d)", workerCount);
+            this.workers = new Worker[workerCount];
+            this.threads = new Thread[workerCount];
+            CountDownLatch startLatch = new CountDownLatch(workerCount);
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                HopTrace hopTrace = hopTracer != null ? hopTracer.trace(workerIndex) : null;
+                Worker worker = new Worker(workerIndex, startLatch, completionBarrier, hopTrace);
                 workers[workerIndex] = worker;
                 threads[workerIndex] = new Thread(worker, "Worker-" + workerIndex);
             }
 
             log("setting next worker pointers");
-            for (int workerIndex = 0; workerIndex < WORKER_COUNT; workerIndex++) {
-                workers[workerIndex].next = workers[(workerIndex + 1) % WORKER_COUNT];
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                workers[workerIndex].next = workers[(workerIndex + 1) % workerCount];
             }
 
             log("starting threads");
@@ -157,9 +235,20 @@ public class JavaThreadRingBenchmark implements RingBenchmark {
 
         }
 
+        /**
+         * Reports the hop traces folded since the last report, if tracing is enabled.
+         */
+        private void report() {
+            if (hopTracer != null) {
+                hopTracer.report("thread");
+            }
+        }
+
         @Override
         public void close() throws Exception {
 
+            report();
+
             log("interrupting threads");
             for (Thread thread : threads) {
                 thread.interrupt();
@@ -175,11 +264,12 @@ public class JavaThreadRingBenchmark implements RingBenchmark {
         @Override
         public int[] call() {
 
-            log("initiating the ring (MESSAGE_PASSING_COUNT=%d)", MESSAGE_PASSING_COUNT);
+            int generation = completionBarrier.generation();
+            log("initiating the ring (messagePassingCount=%d)", messagePassingCount);
             Worker firstWorker = workers[0];
             firstWorker.lock.lock();
             try {
-                firstWorker.sequence = MESSAGE_PASSING_COUNT;
+                firstWorker.sequence = messagePassingCount;
                 firstWorker.waiting = false;
                 firstWorker.waitingCondition.signal();
             } finally {
@@ -187,13 +277,18 @@ public class JavaThreadRingBenchmark implements RingBenchmark {
             }
 
             log("waiting for completion");
-            completionSynchronizer.await();
+            completionBarrier.awaitAdvance(generation);
 
             log("collecting sequences");
-            for (int workerIndex = 0; workerIndex < WORKER_COUNT; workerIndex++) {
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
                 sequences[workerIndex] = workers[workerIndex].sequence;
             }
 
+            if (hopTracer != null) {
+                log("folding hop traces");
+                hopTracer.fold();
+            }
+
             log("returning populated sequences (sequences=%s)", () -> new Object[]{Arrays.toString(sequences)});
             return sequences;
 
@@ -201,7 +296,15 @@ public class JavaThreadRingBenchmark implements RingBenchmark {
 
     }
 
-    private final Context context = new Context();
+    private final Context context;
+
+    public JavaThreadRingBenchmark() {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT);
+    }
+
+    public JavaThreadRingBenchmark(int workerCount, int messagePassingCount) {
+        this.context = new Context(workerCount, messagePassingCount);
+    }
 
     @Override
     @TearDown
@@ -209,6 +312,11 @@ public class JavaThreadRingBenchmark implements RingBenchmark {
         context.close();
     }
 
+    @TearDown(Level.Iteration)
+    public void report() {
+        context.report();
+    }
+
     @Override
     @Benchmark
     public int[] ringBenchmark() {
@@ -222,6 +330,7 @@ public class JavaThreadRingBenchmark implements RingBenchmark {
                 .measurementIterations(MEASUREMENT_ITERATIONS)
                 .forks(1)
                 .threads(THREAD_COUNT)
+                .jvmArgsAppend("-Dring.hopTracing=" + HOP_TRACING, "-Dring.jfrEvents=" + JFR_EVENTS)
                 .resultFormat(ResultFormatType.JSON)
                 .result("ThreadRealization" + THREAD_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
                 .build();
@@ -0,0 +1,226 @@
+package benchmarks;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.VirtualThreadScheduler;
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.LockSupport;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.ring.RingBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark using virtual {@link Thread}s, where the state of all workers is kept in parallel primitive arrays,
+ * rather than in a {@link JavaThreadRingBenchmark.Worker} object with a lock and a condition each.
+ * <p>
+ * A worker is identified by its index only, the next worker is found arithmetically, and a hop follows the
+ * state word protocol of {@link JavaThreadParkingRingBenchmark.Worker} parking right away. Threads are unnamed,
+ * hence a worker costs its virtual thread, a capturing task, eight bytes of state, and its slot in the thread array,
+ * which targets rings with tens of millions of workers. Note that neighbouring workers share cache lines.
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = VirtualThreadScheduler.ADD_OPENS_JVM_ARG)
+public class JavaVirtualThreadCompactRingBenchmark implements RingBenchmark {
+
+    static final class Context implements AutoCloseable, Callable<int[]> {
+
+        private static final int WAITING = 0;
+
+        private static final int SIGNALLED = 1;
+
+        private static final VarHandle STATES = MethodHandles.arrayElementVarHandle(int[].class);
+
+        private final CompletionBarrier completionBarrier = new CompletionBarrier();
+
+        private final int workerCount;
+
+        private final int messagePassingCount;
+
+        /**
+         * Accessed via {@link #STATES} only.
+         */
+        private final int[] states;
+
+        /**
+         * Written before and read after the release/acquire of {@link #states}.
+         */
+        private final int[] sequences;
+
+        private final Thread[] threads;
+
+        private final CountDownLatch startLatch;
+
+        Context(int workerCount, int messagePassingCount, ThreadFactory threadFactory) {
+
+            log("creating compact workers (workerCount=%d)", workerCount);
+            this.workerCount = workerCount;
+            this.messagePassingCount = messagePassingCount;
+            this.states = new int[workerCount];
+            this.sequences = new int[workerCount];
+            this.threads = new Thread[workerCount];
+            this.startLatch = new CountDownLatch(workerCount);
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                int finalWorkerIndex = workerIndex;
+                threads[workerIndex] = threadFactory.newThread(() -> run(finalWorkerIndex));
+            }
+
+        }
+
+        void start() {
+
+            log("starting virtual threads");
+            for (Thread thread : threads) {
+                thread.start();
+            }
+
+            log("waiting for virtual threads to start");
+            try {
+                startLatch.await();
+            } catch (InterruptedException ignored) {
+                log("start latch wait interrupted");
+                Thread.currentThread().interrupt();
+            }
+
+        }
+
+        private void run(int workerIndex) {
+            startLatch.countDown();
+            while (await(workerIndex)) {
+                STATES.setOpaque(states, workerIndex, WAITING);
+                int sequence = sequences[workerIndex];
+                if (sequence <= 0) {
+                    log("[%2d] signaling completion", workerIndex);
+                    completionBarrier.signal();
+                } else {
+                    int nextWorkerIndex = workerIndex + 1 == workerCount ? 0 : workerIndex + 1;
+                    if ((int) STATES.getAcquire(states, nextWorkerIndex) != WAITING) {
+                        String message = String.format("%s was expecting %s to be waiting", workerIndex, nextWorkerIndex);
+                        throw new IllegalStateException(message);
+                    }
+                    signal(nextWorkerIndex, sequence - 1);
+                }
+            }
+            log("[%2d] interrupted", workerIndex);
+        }
+
+        private void signal(int workerIndex, int sequence) {
+            sequences[workerIndex] = sequence;
+            STATES.setRelease(states, workerIndex, SIGNALLED);
+            LockSupport.unpark(threads[workerIndex]);
+        }
+
+        /**
+         * @return {@code true} if signalled, {@code false} if interrupted
+         */
+        private boolean await(int workerIndex) {
+            while ((int) STATES.getAcquire(states, workerIndex) == WAITING) {
+                LockSupport.park(this);
+                if (Thread.currentThread().isInterrupted()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Thread[] threads() {
+            return threads;
+        }
+
+        @Override
+        public void close() throws Exception {
+
+            log("interrupting virtual threads");
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+
+            log("waiting for virtual threads to complete");
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+        }
+
+        @Override
+        public int[] call() {
+
+            int generation = completionBarrier.generation();
+            log("initiating the ring (messagePassingCount=%d)", messagePassingCount);
+            signal(0, messagePassingCount);
+
+            log("waiting for completion");
+            completionBarrier.awaitAdvance(generation);
+
+            log("returning populated sequences (sequences=%s)", () -> new Object[]{Arrays.toString(sequences)});
+            return sequences;
+
+        }
+
+    }
+
+    private final VirtualThreadScheduler scheduler;
+
+    private final Context context;
+
+    public JavaVirtualThreadCompactRingBenchmark() {
+        this(CARRIER_SCHEDULER, CARRIER_COUNT);
+    }
+
+    public JavaVirtualThreadCompactRingBenchmark(VirtualThreadScheduler.Kind schedulerKind, int carrierCount) {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT, schedulerKind, carrierCount);
+    }
+
+    public JavaVirtualThreadCompactRingBenchmark(int workerCount, int messagePassingCount, VirtualThreadScheduler.Kind schedulerKind, int carrierCount) {
+        this.scheduler = VirtualThreadScheduler.create(schedulerKind, carrierCount);
+        this.context = new Context(workerCount, messagePassingCount, scheduler.threadFactory());
+        context.start();
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+        scheduler.close();
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaVirtualThreadCompactRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(THREAD_COUNT)
+                .jvmArgsAppend(
+                        VirtualThreadScheduler.ADD_OPENS_JVM_ARG,
+                        "-Dring.workerCount=" + WORKER_COUNT,
+                        "-Dring.carrierScheduler=" + CARRIER_SCHEDULER,
+                        "-Dring.carrierCount=" + CARRIER_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("VirtualThreadCompactRealization" + WORKER_COUNT + CARRIER_SCHEDULER + CARRIER_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,75 @@
+package benchmarks;
+
+import benchmarks.core.VirtualThreadScheduler;
+import benchmarks.core.ring.Mailbox;
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static benchmarks.core.ring.RingBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark using virtual {@link Thread}s running {@link JavaThreadMailboxRingBenchmark.Worker}s.
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = VirtualThreadScheduler.ADD_OPENS_JVM_ARG)
+public class JavaVirtualThreadMailboxRingBenchmark implements RingBenchmark {
+
+    private final VirtualThreadScheduler scheduler;
+
+    private final JavaThreadMailboxRingBenchmark.Context context;
+
+    public JavaVirtualThreadMailboxRingBenchmark() {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT, MAILBOX, CARRIER_SCHEDULER, CARRIER_COUNT);
+    }
+
+    public JavaVirtualThreadMailboxRingBenchmark(
+            int workerCount,
+            int messagePassingCount,
+            Mailbox.Kind mailboxKind,
+            VirtualThreadScheduler.Kind schedulerKind,
+            int carrierCount) {
+        this.scheduler = VirtualThreadScheduler.create(schedulerKind, carrierCount);
+        this.context = new JavaThreadMailboxRingBenchmark.Context(workerCount, messagePassingCount, mailboxKind, scheduler::newThread);
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+        scheduler.close();
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaVirtualThreadMailboxRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(THREAD_COUNT)
+                .jvmArgsAppend(
+                        VirtualThreadScheduler.ADD_OPENS_JVM_ARG,
+                        "-Dring.mailbox=" + MAILBOX,
+                        "-Dring.carrierScheduler=" + CARRIER_SCHEDULER,
+                        "-Dring.carrierCount=" + CARRIER_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("VirtualThreadMailboxRealization" + MAILBOX + CARRIER_SCHEDULER + CARRIER_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,151 @@
+package benchmarks;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.VirtualThreadScheduler;
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.ring.RingBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark using virtual {@link Thread}s running {@link JavaThreadMultiTokenRingBenchmark.Worker}s,
+ * i.e., passing multiple tokens around the ring at the same time.
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = VirtualThreadScheduler.ADD_OPENS_JVM_ARG)
+public class JavaVirtualThreadMultiTokenRingBenchmark implements RingBenchmark {
+
+    private static final class Context implements AutoCloseable, Callable<int[]> {
+
+        private final CompletionBarrier completion;
+
+        private final int messagePassingCount;
+
+        private final int[] sequences;
+
+        private final int tokenCount;
+
+        private final VirtualThreadScheduler scheduler;
+
+        private final JavaThreadMultiTokenRingBenchmark.Worker[] workers;
+
+        private final Thread[] threads;
+
+        private Context(int workerCount, int messagePassingCount, int tokenCount, VirtualThreadScheduler.Kind schedulerKind, int carrierCount) {
+
+            this.messagePassingCount = messagePassingCount;
+            this.sequences = new int[workerCount];
+            this.tokenCount = tokenCount;
+            this.completion = new CompletionBarrier(tokenCount);
+            this.scheduler = VirtualThreadScheduler.create(schedulerKind, carrierCount);
+
+            log("creating virtual threads (workerCount=%d)", workerCount);
+            CountDownLatch startLatch = new CountDownLatch(workerCount);
+            this.workers = JavaThreadMultiTokenRingBenchmark.createWorkers(workerCount, tokenCount, startLatch, completion);
+            this.threads = new Thread[workerCount];
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                threads[workerIndex] = scheduler.newThread("Worker-" + workerIndex, workers[workerIndex]);
+            }
+
+            log("starting virtual threads (scheduler=%s)", scheduler.name());
+            for (Thread thread : threads) {
+                thread.start();
+            }
+
+            log("waiting for virtual threads to start");
+            try {
+                startLatch.await();
+            } catch (InterruptedException ignored) {
+                log("start latch wait interrupted");
+                Thread.currentThread().interrupt();
+            }
+
+        }
+
+        @Override
+        public void close() throws Exception {
+
+            log("interrupting virtual threads");
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+
+            log("waiting for virtual threads to complete");
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            scheduler.close();
+
+        }
+
+        @Override
+        public int[] call() {
+            return JavaThreadMultiTokenRingBenchmark.circulate(workers, tokenCount, messagePassingCount, completion, sequences);
+        }
+
+    }
+
+    private final Context context;
+
+    public JavaVirtualThreadMultiTokenRingBenchmark() {
+        this(TOKEN_COUNT, CARRIER_SCHEDULER, CARRIER_COUNT);
+    }
+
+    public JavaVirtualThreadMultiTokenRingBenchmark(int tokenCount, VirtualThreadScheduler.Kind schedulerKind, int carrierCount) {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT, tokenCount, schedulerKind, carrierCount);
+    }
+
+    public JavaVirtualThreadMultiTokenRingBenchmark(
+            int workerCount,
+            int messagePassingCount,
+            int tokenCount,
+            VirtualThreadScheduler.Kind schedulerKind,
+            int carrierCount) {
+        this.context = new Context(workerCount, messagePassingCount, tokenCount, schedulerKind, carrierCount);
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaVirtualThreadMultiTokenRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(THREAD_COUNT)
+                .jvmArgsAppend(
+                        VirtualThreadScheduler.ADD_OPENS_JVM_ARG,
+                        "-Dring.tokenCount=" + TOKEN_COUNT,
+                        "-Dring.carrierScheduler=" + CARRIER_SCHEDULER,
+                        "-Dring.carrierCount=" + CARRIER_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("VirtualThreadMultiTokenRealization" + TOKEN_COUNT + CARRIER_SCHEDULER + CARRIER_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
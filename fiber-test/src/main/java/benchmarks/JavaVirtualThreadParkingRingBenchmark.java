@@ -0,0 +1,173 @@
+package benchmarks;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.VirtualThreadScheduler;
+import benchmarks.core.WaitStrategy;
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.ring.RingBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark using virtual {@link Thread}s running {@link JavaThreadParkingRingBenchmark.Worker}s.
+ * <p>
+ * Compared to {@link JavaVirtualThreadRingBenchmark}, the difference is the lock and condition overhead of a hop.
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = VirtualThreadScheduler.ADD_OPENS_JVM_ARG)
+public class JavaVirtualThreadParkingRingBenchmark implements RingBenchmark {
+
+    private static final class Context implements AutoCloseable, Callable<int[]> {
+
+        private final CompletionBarrier completionBarrier = new CompletionBarrier();
+
+        private final int workerCount;
+
+        private final int messagePassingCount;
+
+        private final int[] sequences;
+
+        private final VirtualThreadScheduler scheduler;
+
+        private final JavaThreadParkingRingBenchmark.Worker[] workers;
+
+        private final Thread[] threads;
+
+        private Context(int workerCount, int messagePassingCount, VirtualThreadScheduler.Kind schedulerKind, int carrierCount) {
+
+            this.workerCount = workerCount;
+            this.messagePassingCount = messagePassingCount;
+            this.sequences = new int[workerCount];
+
+            this.scheduler = VirtualThreadScheduler.create(schedulerKind, carrierCount);
+
+            log("creating virtual threads (workerCount=%d)", workerCount);
+            this.workers = new JavaThreadParkingRingBenchmark.Worker[workerCount];
+            this.threads = new Thread[workerCount];
+            CountDownLatch startLatch = new CountDownLatch(workerCount);
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                WaitStrategy waitStrategy = WaitStrategy.create(WAIT_STRATEGY, SPIN_COUNT);
+                JavaThreadParkingRingBenchmark.Worker worker = new JavaThreadParkingRingBenchmark.Worker(workerIndex, startLatch, completionBarrier, waitStrategy);
+                workers[workerIndex] = worker;
+                threads[workerIndex] = scheduler.newThread("Worker-" + workerIndex, worker);
+            }
+
+            log("setting next worker pointers");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                workers[workerIndex].next = workers[(workerIndex + 1) % workerCount];
+            }
+
+            log("starting virtual threads (scheduler=%s)", scheduler.name());
+            for (Thread thread : threads) {
+                thread.start();
+            }
+
+            log("waiting for virtual threads to start");
+            try {
+                startLatch.await();
+            } catch (InterruptedException ignored) {
+                log("start latch wait interrupted");
+                Thread.currentThread().interrupt();
+            }
+
+        }
+
+        @Override
+        public void close() throws Exception {
+
+            log("interrupting virtual threads");
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+
+            log("waiting for virtual threads to complete");
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            scheduler.close();
+
+        }
+
+        @Override
+        public int[] call() {
+
+            int generation = completionBarrier.generation();
+            log("initiating the ring (messagePassingCount=%d)", messagePassingCount);
+            workers[0].signal(messagePassingCount);
+
+            log("waiting for completion");
+            completionBarrier.awaitAdvance(generation);
+
+            log("collecting sequences");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                sequences[workerIndex] = workers[workerIndex].sequence;
+            }
+
+            log("returning populated sequences (sequences=%s)", () -> new Object[]{Arrays.toString(sequences)});
+            return sequences;
+
+        }
+
+    }
+
+    private final Context context;
+
+    public JavaVirtualThreadParkingRingBenchmark() {
+        this(CARRIER_SCHEDULER, CARRIER_COUNT);
+    }
+
+    public JavaVirtualThreadParkingRingBenchmark(VirtualThreadScheduler.Kind schedulerKind, int carrierCount) {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT, schedulerKind, carrierCount);
+    }
+
+    public JavaVirtualThreadParkingRingBenchmark(int workerCount, int messagePassingCount, VirtualThreadScheduler.Kind schedulerKind, int carrierCount) {
+        this.context = new Context(workerCount, messagePassingCount, schedulerKind, carrierCount);
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaVirtualThreadParkingRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(THREAD_COUNT)
+                .jvmArgsAppend(
+                        VirtualThreadScheduler.ADD_OPENS_JVM_ARG,
+                        "-Dring.carrierScheduler=" + CARRIER_SCHEDULER,
+                        "-Dring.carrierCount=" + CARRIER_COUNT,
+                        "-Dring.waitStrategy=" + WAIT_STRATEGY,
+                        "-Dring.spinCount=" + SPIN_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("VirtualThreadParkingRealization" + CARRIER_SCHEDULER + CARRIER_COUNT + WAIT_STRATEGY + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
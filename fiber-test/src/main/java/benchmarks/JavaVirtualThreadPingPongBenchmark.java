@@ -0,0 +1,77 @@
+package benchmarks;
+
+import benchmarks.core.VirtualThreadScheduler;
+import benchmarks.core.pingpong.PingPongBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static benchmarks.core.pingpong.PingPongBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ping-pong benchmark using virtual {@link Thread}s, see {@link JavaThreadPingPongBenchmark}.
+ * <p>
+ * A {@link VirtualThreadScheduler.Kind#SINGLE SINGLE} carrier makes every hand-off a same-carrier continuation switch,
+ * whereas {@link VirtualThreadScheduler.Kind#FIXED FIXED} carriers let the two sides run on different cores.
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = VirtualThreadScheduler.ADD_OPENS_JVM_ARG)
+public class JavaVirtualThreadPingPongBenchmark implements PingPongBenchmark {
+
+    private final VirtualThreadScheduler scheduler;
+
+    private final JavaThreadPingPongBenchmark.Context context;
+
+    public JavaVirtualThreadPingPongBenchmark() {
+        this(CARRIER_SCHEDULER, CARRIER_COUNT);
+    }
+
+    public JavaVirtualThreadPingPongBenchmark(VirtualThreadScheduler.Kind schedulerKind, int carrierCount) {
+        this.scheduler = VirtualThreadScheduler.create(schedulerKind, carrierCount);
+        this.context = new JavaThreadPingPongBenchmark.Context("virtual-" + scheduler.name(), scheduler::newThread);
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+        scheduler.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        context.report();
+    }
+
+    @Override
+    @Benchmark
+    public int pingPongBenchmark() {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaVirtualThreadPingPongBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .jvmArgsAppend(
+                        VirtualThreadScheduler.ADD_OPENS_JVM_ARG,
+                        "-DpingPong.roundTripCount=" + ROUND_TRIP_COUNT,
+                        "-DpingPong.carrierScheduler=" + CARRIER_SCHEDULER,
+                        "-DpingPong.carrierCount=" + CARRIER_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("VirtualThreadPingPongRealization" + CARRIER_SCHEDULER + CARRIER_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
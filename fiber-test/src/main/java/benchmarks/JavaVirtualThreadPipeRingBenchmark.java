@@ -0,0 +1,77 @@
+package benchmarks;
+
+import benchmarks.core.VirtualThreadScheduler;
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+import static benchmarks.core.ring.RingBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark using virtual {@link Thread}s running {@link JavaThreadPipeRingBenchmark.Worker}s.
+ * <p>
+ * A virtual thread blocked on reading an empty pipe registers the file descriptor with the JDK poller and releases
+ * its carrier, hence every hop goes through the poller rather than parking on a lock.
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = VirtualThreadScheduler.ADD_OPENS_JVM_ARG)
+public class JavaVirtualThreadPipeRingBenchmark implements RingBenchmark {
+
+    private final VirtualThreadScheduler scheduler;
+
+    private final JavaThreadPipeRingBenchmark.Context context;
+
+    public JavaVirtualThreadPipeRingBenchmark() throws IOException {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT, CARRIER_SCHEDULER, CARRIER_COUNT);
+    }
+
+    public JavaVirtualThreadPipeRingBenchmark(
+            int workerCount,
+            int messagePassingCount,
+            VirtualThreadScheduler.Kind schedulerKind,
+            int carrierCount) throws IOException {
+        this.scheduler = VirtualThreadScheduler.create(schedulerKind, carrierCount);
+        this.context = new JavaThreadPipeRingBenchmark.Context(workerCount, messagePassingCount, scheduler::newThread);
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+        scheduler.close();
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() throws IOException {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaVirtualThreadPipeRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(THREAD_COUNT)
+                .jvmArgsAppend(
+                        VirtualThreadScheduler.ADD_OPENS_JVM_ARG,
+                        "-Dring.carrierScheduler=" + CARRIER_SCHEDULER,
+                        "-Dring.carrierCount=" + CARRIER_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("VirtualThreadPipeRealization" + CARRIER_SCHEDULER + CARRIER_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
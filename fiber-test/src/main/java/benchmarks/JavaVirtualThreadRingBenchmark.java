@@ -0,0 +1,211 @@
+package benchmarks;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.VirtualThreadScheduler;
+import benchmarks.core.ring.HopTrace;
+import benchmarks.core.ring.HopTracer;
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.ring.RingBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark using virtual {@link Thread}s running {@link JavaThreadRingBenchmark.Worker}s.
+ * <p>
+ * Hop tracing is supported the same way as in {@link JavaThreadRingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = VirtualThreadScheduler.ADD_OPENS_JVM_ARG)
+public class JavaVirtualThreadRingBenchmark implements RingBenchmark {
+
+    private static final class Context implements AutoCloseable, Callable<int[]> {
+
+        private final CompletionBarrier completionBarrier = new CompletionBarrier();
+
+        private final int workerCount;
+
+        private final int messagePassingCount;
+
+        private final int[] sequences;
+
+        @Nullable
+        private final HopTracer hopTracer;
+
+        private final VirtualThreadScheduler scheduler;
+
+        private final JavaThreadRingBenchmark.Worker[] workers;
+
+        private final Thread[] threads;
+
+        private Context(int workerCount, int messagePassingCount, VirtualThreadScheduler.Kind schedulerKind, int carrierCount) {
+
+            this.workerCount = workerCount;
+            this.messagePassingCount = messagePassingCount;
+            this.sequences = new int[workerCount];
+            this.hopTracer = HOP_TRACING
+                    ? new HopTracer(workerCount, HopTracer.singleTokenHopCapacity(workerCount, messagePassingCount))
+                    : null;
+
+            this.scheduler = VirtualThreadScheduler.create(schedulerKind, carrierCount);
+
+            log("creating virtual threads (workerCount=%d)", workerCount);
+            this.workers = new JavaThreadRingBenchmark.Worker[workerCount];
+            this.threads = new Thread[workerCount];
+            CountDownLatch startLatch = new CountDownLatch(workerCount);
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                HopTrace hopTrace = hopTracer != null ? hopTracer.trace(workerIndex) : null;
+                JavaThreadRingBenchmark.Worker worker = new JavaThreadRingBenchmark.Worker(workerIndex, startLatch, completionBarrier, hopTrace);
+                workers[workerIndex] = worker;
+                threads[workerIndex] = scheduler.newThread("Worker-" + workerIndex, worker);
+            }
+
+            log("setting next worker pointers");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                workers[workerIndex].next = workers[(workerIndex + 1) % workerCount];
+            }
+
+            log("starting virtual threads (scheduler=%s)", scheduler.name());
+            for (Thread thread : threads) {
+                thread.start();
+            }
+
+            log("waiting for virtual threads to start");
+            try {
+                startLatch.await();
+            } catch (InterruptedException ignored) {
+                log("start latch wait interrupted");
+                Thread.currentThread().interrupt();
+            }
+
+        }
+
+        /**
+         * Reports the hop traces folded since the last report, if tracing is enabled.
+         */
+        private void report() {
+            if (hopTracer != null) {
+                hopTracer.report("virtual-" + scheduler.name());
+            }
+        }
+
+        @Override
+        public void close() throws Exception {
+
+            report();
+
+            log("interrupting virtual threads");
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+
+            log("waiting for virtual threads to complete");
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            scheduler.close();
+
+        }
+
+        @Override
+        public int[] call() {
+
+            int generation = completionBarrier.generation();
+            log("initiating the ring (messagePassingCount=%d)", messagePassingCount);
+            JavaThreadRingBenchmark.Worker firstWorker = workers[0];
+            firstWorker.lock.lock();
+            try {
+                firstWorker.sequence = messagePassingCount;
+                firstWorker.waiting = false;
+                firstWorker.waitingCondition.signal();
+            } finally {
+                firstWorker.lock.unlock();
+            }
+
+            log("waiting for completion");
+            completionBarrier.awaitAdvance(generation);
+
+            log("collecting sequences");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                sequences[workerIndex] = workers[workerIndex].sequence;
+            }
+
+            if (hopTracer != null) {
+                log("folding hop traces");
+                hopTracer.fold();
+            }
+
+            log("returning populated sequences (sequences=%s)", () -> new Object[]{Arrays.toString(sequences)});
+            return sequences;
+
+        }
+
+    }
+
+    private final Context context;
+
+    public JavaVirtualThreadRingBenchmark() {
+        this(CARRIER_SCHEDULER, CARRIER_COUNT);
+    }
+
+    public JavaVirtualThreadRingBenchmark(VirtualThreadScheduler.Kind schedulerKind, int carrierCount) {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT, schedulerKind, carrierCount);
+    }
+
+    public JavaVirtualThreadRingBenchmark(int workerCount, int messagePassingCount, VirtualThreadScheduler.Kind schedulerKind, int carrierCount) {
+        this.context = new Context(workerCount, messagePassingCount, schedulerKind, carrierCount);
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        context.report();
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaVirtualThreadRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(THREAD_COUNT)
+                .jvmArgsAppend(
+                        VirtualThreadScheduler.ADD_OPENS_JVM_ARG,
+                        "-Dring.carrierScheduler=" + CARRIER_SCHEDULER,
+                        "-Dring.carrierCount=" + CARRIER_COUNT,
+                        "-Dring.hopTracing=" + HOP_TRACING,
+                        "-Dring.jfrEvents=" + JFR_EVENTS)
+                .resultFormat(ResultFormatType.JSON)
+                .result("VirtualThreadRealization" + CARRIER_SCHEDULER + CARRIER_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
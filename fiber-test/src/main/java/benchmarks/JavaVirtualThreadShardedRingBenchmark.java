@@ -0,0 +1,322 @@
+package benchmarks;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.VirtualThreadScheduler;
+import benchmarks.core.ring.RingBenchmark;
+import benchmarks.core.ring.ShardScheduling;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import static benchmarks.core.DurationHelper.formatDurationNanos;
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.ring.RingBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark running {@link benchmarks.core.ring.RingBenchmarkConfig#SHARD_COUNT SHARD_COUNT} independent rings
+ * of virtual {@link Thread}s running {@link JavaThreadRingBenchmark.Worker}s at the same time.
+ * <p>
+ * Shards either share a single carrier scheduler or own one each, see {@link ShardScheduling}.
+ * The returned sequences belong to the first shard. The aggregate hop throughput and the spread of
+ * per-shard durations are reported after every JMH iteration.
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = VirtualThreadScheduler.ADD_OPENS_JVM_ARG)
+public class JavaVirtualThreadShardedRingBenchmark implements RingBenchmark {
+
+    private static final class TimestampingBarrier extends CompletionBarrier {
+
+        private volatile long signalTimeNanos;
+
+        @Override
+        public void signal() {
+            signalTimeNanos = System.nanoTime();
+            super.signal();
+        }
+
+    }
+
+    private static final class Shard implements AutoCloseable {
+
+        private final TimestampingBarrier completionBarrier = new TimestampingBarrier();
+
+        private final int messagePassingCount;
+
+        private final int[] sequences;
+
+        private final int id;
+
+        @Nullable
+        private final VirtualThreadScheduler ownedScheduler;
+
+        private final JavaThreadRingBenchmark.Worker[] workers;
+
+        private final Thread[] threads;
+
+        private int generation;
+
+        private long startTimeNanos;
+
+        private long totalDurationNanos = 0;
+
+        private Shard(int id, int workerCount, int messagePassingCount, VirtualThreadScheduler scheduler, boolean schedulerOwned, CountDownLatch startLatch) {
+            this.messagePassingCount = messagePassingCount;
+            this.sequences = new int[workerCount];
+            this.id = id;
+            this.ownedScheduler = schedulerOwned ? scheduler : null;
+            this.workers = new JavaThreadRingBenchmark.Worker[workerCount];
+            this.threads = new Thread[workerCount];
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                JavaThreadRingBenchmark.Worker worker = new JavaThreadRingBenchmark.Worker(workerIndex, startLatch, completionBarrier);
+                workers[workerIndex] = worker;
+                threads[workerIndex] = scheduler.newThread("Shard-" + id + "-Worker-" + workerIndex, worker);
+            }
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                workers[workerIndex].next = workers[(workerIndex + 1) % workerCount];
+            }
+        }
+
+        private void start() {
+            for (Thread thread : threads) {
+                thread.start();
+            }
+        }
+
+        private void initiate() {
+            JavaThreadRingBenchmark.Worker firstWorker = workers[0];
+            generation = completionBarrier.generation();
+            startTimeNanos = System.nanoTime();
+            firstWorker.lock.lock();
+            try {
+                firstWorker.sequence = messagePassingCount;
+                firstWorker.waiting = false;
+                firstWorker.waitingCondition.signal();
+            } finally {
+                firstWorker.lock.unlock();
+            }
+        }
+
+        private void await() {
+            completionBarrier.awaitAdvance(generation);
+            long durationNanos = completionBarrier.signalTimeNanos - startTimeNanos;
+            log("[%2d] completed (duration=%s)", () -> new Object[]{id, formatDurationNanos(durationNanos)});
+            totalDurationNanos += durationNanos;
+            for (int workerIndex = 0; workerIndex < workers.length; workerIndex++) {
+                sequences[workerIndex] = workers[workerIndex].sequence;
+            }
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            if (ownedScheduler != null) {
+                ownedScheduler.close();
+            }
+        }
+
+    }
+
+    private static final class Context implements AutoCloseable, Callable<int[]> {
+
+        @Nullable
+        private final VirtualThreadScheduler sharedScheduler;
+
+        private final int messagePassingCount;
+
+        private final Shard[] shards;
+
+        private long invocationCount = 0;
+
+        private long totalDurationNanos = 0;
+
+        private Context(
+                int workerCount,
+                int messagePassingCount,
+                int shardCount,
+                ShardScheduling shardScheduling,
+                VirtualThreadScheduler.Kind schedulerKind,
+                int carrierCount) {
+
+            this.messagePassingCount = messagePassingCount;
+            if (shardScheduling == ShardScheduling.PER_SHARD && schedulerKind == VirtualThreadScheduler.Kind.DEFAULT) {
+                throw new IllegalArgumentException("per-shard scheduling requires a non-default carrier scheduler");
+            }
+            this.sharedScheduler = shardScheduling == ShardScheduling.SHARED
+                    ? VirtualThreadScheduler.create(schedulerKind, carrierCount)
+                    : null;
+
+            log("creating shards (shardCount=%d, workerCount=%d)", shardCount, workerCount);
+            this.shards = new Shard[shardCount];
+            CountDownLatch startLatch = new CountDownLatch(shardCount * workerCount);
+            for (int shardIndex = 0; shardIndex < shardCount; shardIndex++) {
+                shards[shardIndex] = sharedScheduler != null
+                        ? new Shard(shardIndex, workerCount, messagePassingCount, sharedScheduler, false, startLatch)
+                        : new Shard(shardIndex, workerCount, messagePassingCount, VirtualThreadScheduler.create(schedulerKind, carrierCount), true, startLatch);
+            }
+
+            log("starting virtual threads (shardScheduling=%s)", shardScheduling);
+            for (Shard shard : shards) {
+                shard.start();
+            }
+
+            log("waiting for virtual threads to start");
+            try {
+                startLatch.await();
+            } catch (InterruptedException ignored) {
+                log("start latch wait interrupted");
+                Thread.currentThread().interrupt();
+            }
+
+        }
+
+        @Override
+        public void close() throws Exception {
+
+            report();
+
+            log("closing shards");
+            for (Shard shard : shards) {
+                shard.close();
+            }
+
+            if (sharedScheduler != null) {
+                sharedScheduler.close();
+            }
+
+        }
+
+        /**
+         * Reports the statistics collected since the last report.
+         */
+        private void report() {
+            if (invocationCount == 0) {
+                return;
+            }
+            long hopCount = invocationCount * shards.length * messagePassingCount;
+            double hopsPerSecond = 1e9 * hopCount / totalDurationNanos;
+            long minShardDurationNanos = Long.MAX_VALUE;
+            long maxShardDurationNanos = 0;
+            double shardDurationNanosSum = 0;
+            double shardDurationNanosSquareSum = 0;
+            for (Shard shard : shards) {
+                long shardDurationNanos = shard.totalDurationNanos / invocationCount;
+                minShardDurationNanos = Math.min(minShardDurationNanos, shardDurationNanos);
+                maxShardDurationNanos = Math.max(maxShardDurationNanos, shardDurationNanos);
+                shardDurationNanosSum += shardDurationNanos;
+                shardDurationNanosSquareSum += (double) shardDurationNanos * shardDurationNanos;
+            }
+            double meanShardDurationNanos = shardDurationNanosSum / shards.length;
+            double shardDurationNanosVariance = Math.max(0, shardDurationNanosSquareSum / shards.length - meanShardDurationNanos * meanShardDurationNanos);
+            System.out.format(
+                    "sharded ring (shardCount=%d, invocationCount=%d): %.0f hops/s, per-shard duration min=%s mean=%s max=%s stddev=%s%n",
+                    shards.length, invocationCount, hopsPerSecond,
+                    formatDurationNanos(minShardDurationNanos),
+                    formatDurationNanos((long) meanShardDurationNanos),
+                    formatDurationNanos(maxShardDurationNanos),
+                    formatDurationNanos((long) Math.sqrt(shardDurationNanosVariance)));
+            invocationCount = 0;
+            totalDurationNanos = 0;
+            for (Shard shard : shards) {
+                shard.totalDurationNanos = 0;
+            }
+        }
+
+        @Override
+        public int[] call() {
+
+            log("initiating the rings (messagePassingCount=%d)", messagePassingCount);
+            long startTimeNanos = System.nanoTime();
+            for (Shard shard : shards) {
+                shard.initiate();
+            }
+
+            log("waiting for completion");
+            for (Shard shard : shards) {
+                shard.await();
+            }
+            totalDurationNanos += System.nanoTime() - startTimeNanos;
+            invocationCount++;
+
+            int[] sequences = shards[0].sequences;
+            log("returning populated sequences (sequences=%s)", () -> new Object[]{Arrays.toString(sequences)});
+            return sequences;
+
+        }
+
+    }
+
+    private final Context context;
+
+    public JavaVirtualThreadShardedRingBenchmark() {
+        this(SHARD_COUNT, SHARD_SCHEDULING, CARRIER_SCHEDULER, CARRIER_COUNT);
+    }
+
+    public JavaVirtualThreadShardedRingBenchmark(int shardCount, ShardScheduling shardScheduling, VirtualThreadScheduler.Kind schedulerKind, int carrierCount) {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT, shardCount, shardScheduling, schedulerKind, carrierCount);
+    }
+
+    public JavaVirtualThreadShardedRingBenchmark(
+            int workerCount,
+            int messagePassingCount,
+            int shardCount,
+            ShardScheduling shardScheduling,
+            VirtualThreadScheduler.Kind schedulerKind,
+            int carrierCount) {
+        this.context = new Context(workerCount, messagePassingCount, shardCount, shardScheduling, schedulerKind, carrierCount);
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        context.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        context.report();
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaVirtualThreadShardedRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(THREAD_COUNT)
+                .jvmArgsAppend(
+                        VirtualThreadScheduler.ADD_OPENS_JVM_ARG,
+                        "-Dring.shardCount=" + SHARD_COUNT,
+                        "-Dring.shardScheduling=" + SHARD_SCHEDULING,
+                        "-Dring.carrierScheduler=" + CARRIER_SCHEDULER,
+                        "-Dring.carrierCount=" + CARRIER_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("VirtualThreadShardedRealization" + SHARD_COUNT + SHARD_SCHEDULING + CARRIER_SCHEDULER + CARRIER_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
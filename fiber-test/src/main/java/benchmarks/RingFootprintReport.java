@@ -0,0 +1,204 @@
+package benchmarks;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.PropertyHelper;
+
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.ring.RingBenchmarkConfig.MESSAGE_PASSING_COUNT;
+
+/**
+ * Reports the memory footprint of rings of {@link JavaThreadRingBenchmark.Worker}s parked in their {@code await()},
+ * running either on platform or on virtual threads, and of rings of {@link JavaVirtualThreadCompactRingBenchmark} workers.
+ * <p>
+ * For every ring size, the following is reported per worker:
+ * <ul>
+ * <li>the retained heap of the workers and their unstarted threads,</li>
+ * <li>the heap growth caused by starting and parking the threads, i.e., the stack chunks of virtual threads,</li>
+ * <li>the growth of the committed native thread memory, if {@code -XX:NativeMemoryTracking=summary} is provided,</li>
+ * <li>the growth of the resident set size, if {@code /proc/self/status} is available,</li>
+ * </ul>
+ * and the GC count and time spent while building the ring, and the duration of a full GC with the ring parked.
+ * Platform threads are skipped for ring sizes above {@code footprint.maxPlatformWorkerCount}.
+ */
+public class RingFootprintReport {
+
+    private static final int[] WORKER_COUNTS = PropertyHelper.readIntegerListPropertyGreaterThanOrEqualTo("footprint.workerCounts", "10000,100000,1000000", 2);
+
+    private static final int MAX_PLATFORM_WORKER_COUNT = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("footprint.maxPlatformWorkerCount", "10000", 0);
+
+    private static final Pattern NMT_THREAD_PATTERN = Pattern.compile("-\\s+Thread \\(reserved=(\\d+)KB, committed=(\\d+)KB\\)");
+
+    private static final Pattern RSS_PATTERN = Pattern.compile("VmRSS:\\s+(\\d+) kB");
+
+    private static final class Snapshot {
+
+        private final long heapUsedBytes;
+
+        private final long nativeThreadCommittedBytes;
+
+        private final long residentSetBytes;
+
+        private final long gcCount;
+
+        private final long gcTimeMillis;
+
+        private Snapshot() {
+            this.heapUsedBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            this.nativeThreadCommittedBytes = readNativeThreadCommittedBytes();
+            this.residentSetBytes = readResidentSetBytes();
+            long gcCount = 0;
+            long gcTimeMillis = 0;
+            for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+                gcCount += Math.max(0, gcBean.getCollectionCount());
+                gcTimeMillis += Math.max(0, gcBean.getCollectionTime());
+            }
+            this.gcCount = gcCount;
+            this.gcTimeMillis = gcTimeMillis;
+        }
+
+    }
+
+    public static void main(String[] args) throws Exception {
+        for (int workerCount : WORKER_COUNTS) {
+            if (workerCount <= MAX_PLATFORM_WORKER_COUNT) {
+                report("thread", workerCount, () -> createWorkerThreads(workerCount, Thread.ofPlatform()));
+            } else {
+                System.out.format("skipping platform threads (workerCount=%d, maxPlatformWorkerCount=%d)%n", workerCount, MAX_PLATFORM_WORKER_COUNT);
+            }
+            report("virtual", workerCount, () -> createWorkerThreads(workerCount, Thread.ofVirtual()));
+            report("virtual-compact", workerCount, () -> new JavaVirtualThreadCompactRingBenchmark.Context(workerCount, MESSAGE_PASSING_COUNT, Thread.ofVirtual().factory()).threads());
+        }
+    }
+
+    /**
+     * @return unstarted threads running a ring of {@link JavaThreadRingBenchmark.Worker}s
+     */
+    private static Thread[] createWorkerThreads(int workerCount, Thread.Builder threadBuilder) {
+        CompletionBarrier completionBarrier = new CompletionBarrier();
+        CountDownLatch startLatch = new CountDownLatch(workerCount);
+        JavaThreadRingBenchmark.Worker[] workers = new JavaThreadRingBenchmark.Worker[workerCount];
+        Thread[] threads = new Thread[workerCount];
+        for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+            JavaThreadRingBenchmark.Worker worker = new JavaThreadRingBenchmark.Worker(workerIndex, startLatch, completionBarrier);
+            workers[workerIndex] = worker;
+            threads[workerIndex] = threadBuilder.unstarted(worker);
+        }
+        for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+            workers[workerIndex].next = workers[(workerIndex + 1) % workerCount];
+        }
+        return threads;
+    }
+
+    private static void report(String name, int workerCount, Supplier<Thread[]> threadsSupplier) throws InterruptedException {
+
+        Snapshot baseline = collectGarbageAndSnapshot();
+
+        log("creating workers (name=%s, workerCount=%d)", () -> new Object[]{name, workerCount});
+        Thread[] threads = threadsSupplier.get();
+        Snapshot created = collectGarbageAndSnapshot();
+
+        log("starting threads");
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        log("ensuring threads are waiting");
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+        }
+        Snapshot parked = new Snapshot();
+        long fullGcStartTimeNanos = System.nanoTime();
+        Snapshot parkedCollected = collectGarbageAndSnapshot();
+        long fullGcDurationNanos = System.nanoTime() - fullGcStartTimeNanos;
+
+        System.out.format(
+                "footprint (name=%s, workerCount=%d): per worker heap=%.0fB stack chunk heap=%.0fB native thread=%s rss=%s," +
+                        " build gc count=%d time=%dms, parked full gc=%.1fms%n",
+                name, workerCount,
+                (double) (created.heapUsedBytes - baseline.heapUsedBytes) / workerCount,
+                (double) (parkedCollected.heapUsedBytes - created.heapUsedBytes) / workerCount,
+                formatPerWorker(created.nativeThreadCommittedBytes, parked.nativeThreadCommittedBytes, workerCount),
+                formatPerWorker(created.residentSetBytes, parked.residentSetBytes, workerCount),
+                parked.gcCount - baseline.gcCount,
+                parked.gcTimeMillis - baseline.gcTimeMillis,
+                fullGcDurationNanos / 1e6);
+
+        log("interrupting threads");
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+
+        log("waiting for threads to complete");
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+    }
+
+    private static Snapshot collectGarbageAndSnapshot() {
+        // Multiple passes to let finalization and reference processing settle.
+        for (int gcIndex = 0; gcIndex < 3; gcIndex++) {
+            System.gc();
+        }
+        return new Snapshot();
+    }
+
+    private static String formatPerWorker(long startBytes, long endBytes, int workerCount) {
+        return startBytes < 0 || endBytes < 0
+                ? "n/a"
+                : String.format("%.0fB", (double) (endBytes - startBytes) / workerCount);
+    }
+
+    /**
+     * @return the committed memory of the thread category of the native memory tracking, or -1 if not enabled
+     */
+    private static long readNativeThreadCommittedBytes() {
+        try {
+            ObjectName diagnosticCommandName = new ObjectName("com.sun.management:type=DiagnosticCommand");
+            String summary = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                    diagnosticCommandName,
+                    "vmNativeMemory",
+                    new Object[]{new String[]{"summary"}},
+                    new String[]{String[].class.getName()});
+            Matcher matcher = NMT_THREAD_PATTERN.matcher(summary);
+            return matcher.find() ? Long.parseLong(matcher.group(2)) * 1024 : -1;
+        } catch (Exception error) {
+            log("could not read native memory tracking summary (error=%s)", error);
+            return -1;
+        }
+    }
+
+    /**
+     * @return the resident set size of the process, or -1 if not available
+     */
+    private static long readResidentSetBytes() {
+        try {
+            List<String> lines = Files.readAllLines(Paths.get("/proc/self/status"));
+            for (String line : lines) {
+                Matcher matcher = RSS_PATTERN.matcher(line);
+                if (matcher.find()) {
+                    return Long.parseLong(matcher.group(1)) * 1024;
+                }
+            }
+            return -1;
+        } catch (IOException error) {
+            log("could not read the process status (error=%s)", error);
+            return -1;
+        }
+    }
+
+}
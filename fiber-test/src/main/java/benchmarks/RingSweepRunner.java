@@ -0,0 +1,131 @@
+package benchmarks;
+
+import benchmarks.core.PropertyHelper;
+import benchmarks.core.VirtualThreadScheduler;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Runs {@link JavaRingSweepBenchmark} over the full matrix of the {@code sweep.*} properties, writes the results
+ * of all runs into a single JSON file, and prints the hop throughput of every combination.
+ * <p>
+ * The JMH thread count, i.e., the number of concurrent rings, cannot be a {@link org.openjdk.jmh.annotations.Param},
+ * hence there is a JMH run per thread count. Engines not {@link JavaRingSweepBenchmark.Engine#isVirtual() running on
+ * their own carriers} are run with the first carrier count only. The {@code ring.*} properties of the multi-token
+ * and sharded engines are passed on to the forked JVMs along with the rest of the command line. Engines
+ * {@link JavaRingSweepBenchmark.Engine#requiresDefaultScheduler() requiring the default scheduler} ignore
+ * {@code sweep.carrierScheduler} and rather get a JMH run per carrier count, where the count is passed to the forked
+ * JVM as {@code jdk.virtualThreadScheduler.parallelism}.
+ */
+public class RingSweepRunner {
+
+    private static final List<JavaRingSweepBenchmark.Engine> ENGINES = PropertyHelper.readEnumListProperty(
+            "sweep.engines", "THREAD,VIRTUAL_THREAD,THREAD_PARKING,VIRTUAL_THREAD_PARKING,VIRTUAL_THREAD_COMPACT",
+            JavaRingSweepBenchmark.Engine.class);
+
+    private static final int[] WORKER_COUNTS = PropertyHelper.readIntegerListPropertyGreaterThanOrEqualTo("sweep.workerCounts", "60,600,6000", 2);
+
+    private static final int[] MESSAGE_PASSING_COUNTS = PropertyHelper.readIntegerListPropertyGreaterThanOrEqualTo("sweep.messagePassingCounts", "6000", 0);
+
+    private static final VirtualThreadScheduler.Kind CARRIER_SCHEDULER = PropertyHelper.readEnumProperty("sweep.carrierScheduler", "FIXED", VirtualThreadScheduler.Kind.class);
+
+    private static final int[] CARRIER_COUNTS = PropertyHelper.readIntegerListPropertyGreaterThanOrEqualTo("sweep.carrierCounts", "1,2,4", 1);
+
+    private static final int[] THREAD_COUNTS = PropertyHelper.readIntegerListPropertyGreaterThanOrEqualTo("sweep.threadCounts", "1", 1);
+
+    public static void main(String[] args) throws Exception {
+
+        List<String> platformEngines = new ArrayList<>();
+        List<String> virtualEngines = new ArrayList<>();
+        List<String> defaultSchedulerEngines = new ArrayList<>();
+        for (JavaRingSweepBenchmark.Engine engine : ENGINES) {
+            if (engine.requiresDefaultScheduler()) {
+                defaultSchedulerEngines.add(engine.name());
+            } else {
+                (engine.isVirtual() ? virtualEngines : platformEngines).add(engine.name());
+            }
+        }
+
+        List<RunResult> results = new ArrayList<>();
+        for (int threadCount : THREAD_COUNTS) {
+            if (!platformEngines.isEmpty()) {
+                results.addAll(run(threadCount, platformEngines, CARRIER_SCHEDULER, new int[]{CARRIER_COUNTS[0]}));
+            }
+            if (!virtualEngines.isEmpty()) {
+                results.addAll(run(threadCount, virtualEngines, CARRIER_SCHEDULER, CARRIER_COUNTS));
+            }
+            if (!defaultSchedulerEngines.isEmpty()) {
+                for (int carrierCount : CARRIER_COUNTS) {
+                    results.addAll(run(
+                            threadCount, defaultSchedulerEngines, VirtualThreadScheduler.Kind.DEFAULT, new int[]{carrierCount},
+                            VirtualThreadScheduler.ADD_OPENS_JVM_ARG,
+                            JavaContinuationRingBenchmark.ADD_EXPORTS_JVM_ARG,
+                            "-Djdk.virtualThreadScheduler.parallelism=" + carrierCount));
+                }
+            }
+        }
+
+        String resultFile = "RingSweep_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json";
+        ResultFormatFactory.getInstance(ResultFormatType.JSON, resultFile).writeOut(results);
+        System.out.format("wrote %d results to %s%n", results.size(), resultFile);
+
+        System.out.format("%-32s %8s %8s %10s %9s %16s%n", "engine", "rings", "workers", "messages", "carriers", "hops/s");
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            JavaRingSweepBenchmark.Engine engine = JavaRingSweepBenchmark.Engine.valueOf(params.getParam("engine"));
+            int messagePassingCount = Integer.parseInt(params.getParam("messagePassingCount"));
+            double hopsPerSecond = result.getPrimaryResult().getScore() * messagePassingCount * engine.concurrentTokenCount();
+            System.out.format(
+                    "%-32s %8d %8s %10d %9s %16.0f%n",
+                    engine, params.getThreads(), params.getParam("workerCount"),
+                    messagePassingCount, params.getParam("carrierCount"), hopsPerSecond);
+        }
+
+    }
+
+    /**
+     * @param jvmArgs JVM arguments replacing the ones of the {@link org.openjdk.jmh.annotations.Fork} annotation,
+     *                unless empty
+     */
+    private static List<RunResult> run(
+            int threadCount,
+            List<String> engines,
+            VirtualThreadScheduler.Kind schedulerKind,
+            int[] carrierCounts,
+            String... jvmArgs) throws Exception {
+        ChainedOptionsBuilder optionsBuilder = new OptionsBuilder()
+                .include(JavaRingSweepBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .threads(threadCount)
+                .param("engine", engines.toArray(new String[0]))
+                .param("workerCount", toStrings(WORKER_COUNTS))
+                .param("messagePassingCount", toStrings(MESSAGE_PASSING_COUNTS))
+                .param("schedulerKind", schedulerKind.name())
+                .param("carrierCount", toStrings(carrierCounts));
+        if (jvmArgs.length > 0) {
+            optionsBuilder.jvmArgsAppend(jvmArgs);
+        }
+        Options options = optionsBuilder.build();
+        return new ArrayList<>(new Runner(options).run());
+    }
+
+    private static String[] toStrings(int[] numbers) {
+        return Arrays.stream(numbers).mapToObj(String::valueOf).toArray(String[]::new);
+    }
+
+}
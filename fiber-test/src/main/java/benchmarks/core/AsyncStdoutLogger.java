@@ -0,0 +1,284 @@
+package benchmarks.core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Binary asynchronous backend of {@link StdoutLogger}.
+ * <p>
+ * Every logging thread appends fixed-size records, i.e., a timestamp, a format reference, and either up to two
+ * {@code int} arguments or an object argument, to its own preallocated single-producer single-consumer ring buffer.
+ * Appending neither locks nor allocates for {@code int} arguments; records are dropped and counted once the buffer is
+ * full. A daemon drainer thread collects the records of all buffers, orders them by timestamp, formats and prints them.
+ * <p>
+ * A buffer takes about {@code 40 * stdoutLogger.bufferCapacity} bytes per logging thread, which adds up quickly
+ * with many virtual threads, hence the small default capacity.
+ */
+enum AsyncStdoutLogger {;
+
+    private static final int CAPACITY = PowerOfTwoHelper.ceilingPowerOfTwo(
+            PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("stdoutLogger.bufferCapacity", "256", 1));
+
+    private static final long DRAIN_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final byte KIND_NO_ARGS = 0;
+
+    private static final byte KIND_INT_ARG = 1;
+
+    private static final byte KIND_INT_ARGS = 2;
+
+    private static final byte KIND_OBJECT_ARG = 3;
+
+    private static final byte KIND_OBJECT_ARGS = 4;
+
+    private static final VarHandle PRODUCER_INDEX;
+
+    private static final VarHandle CONSUMER_INDEX;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(Buffer.class, "producerIndex", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(Buffer.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException error) {
+            throw new ExceptionInInitializerError(error);
+        }
+    }
+
+    /**
+     * Offset to convert {@link System#nanoTime()} timestamps to nanoseconds since the epoch.
+     */
+    private static final long EPOCH_OFFSET_NANOS;
+
+    static {
+        Instant now = Instant.now();
+        EPOCH_OFFSET_NANOS = now.getEpochSecond() * 1_000_000_000L + now.getNano() - System.nanoTime();
+    }
+
+    private static final Queue<Buffer> BUFFERS = new ConcurrentLinkedQueue<>();
+
+    private static final ThreadLocal<Buffer> THREAD_BUFFER = ThreadLocal.withInitial(() -> {
+        Buffer buffer = new Buffer(Thread.currentThread());
+        BUFFERS.add(buffer);
+        return buffer;
+    });
+
+    static {
+        Thread drainer = new Thread(AsyncStdoutLogger::drainContinuously, "StdoutLogger-Drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(AsyncStdoutLogger::drain, "StdoutLogger-Flusher"));
+    }
+
+    private static final class Buffer {
+
+        private final Thread owner;
+
+        private final String ownerName;
+
+        private final long[] timestamps = new long[CAPACITY];
+
+        private final String[] formats = new String[CAPACITY];
+
+        private final byte[] kinds = new byte[CAPACITY];
+
+        private final int[] intArgs0 = new int[CAPACITY];
+
+        private final int[] intArgs1 = new int[CAPACITY];
+
+        private final Object[] objectArgs = new Object[CAPACITY];
+
+        /**
+         * Written by the owner only.
+         */
+        @SuppressWarnings("unused")
+        private long producerIndex = 0;
+
+        /**
+         * Written by the drainer only.
+         */
+        @SuppressWarnings("unused")
+        private long consumerIndex = 0;
+
+        /**
+         * Written by the owner only, read racily by the drainer.
+         */
+        private volatile long droppedCount = 0;
+
+        private long reportedDroppedCount = 0;
+
+        private Buffer(Thread owner) {
+            this.owner = owner;
+            this.ownerName = owner.getName();
+        }
+
+        /**
+         * @return the index of the claimed slot, or {@code -1}, if the buffer is full
+         */
+        private int claim(long timestamp, String format, byte kind) {
+            long index = (long) PRODUCER_INDEX.get(this);
+            if (index - (long) CONSUMER_INDEX.getAcquire(this) >= CAPACITY) {
+                // noinspection NonAtomicOperationOnVolatileField
+                droppedCount++;
+                return -1;
+            }
+            int slot = (int) index & (CAPACITY - 1);
+            timestamps[slot] = timestamp;
+            formats[slot] = format;
+            kinds[slot] = kind;
+            return slot;
+        }
+
+        private void publish() {
+            PRODUCER_INDEX.setRelease(this, (long) PRODUCER_INDEX.get(this) + 1);
+        }
+
+        private boolean isEmpty() {
+            return (long) PRODUCER_INDEX.getAcquire(this) == (long) CONSUMER_INDEX.get(this);
+        }
+
+    }
+
+    private static final class Record {
+
+        private final long timestamp;
+
+        private final String line;
+
+        private Record(long timestamp, String line) {
+            this.timestamp = timestamp;
+            this.line = line;
+        }
+
+    }
+
+    static void log(String fmt) {
+        Buffer buffer = THREAD_BUFFER.get();
+        if (buffer.claim(System.nanoTime(), fmt, KIND_NO_ARGS) >= 0) {
+            buffer.publish();
+        }
+    }
+
+    static void log(String fmt, int arg) {
+        Buffer buffer = THREAD_BUFFER.get();
+        int slot = buffer.claim(System.nanoTime(), fmt, KIND_INT_ARG);
+        if (slot >= 0) {
+            buffer.intArgs0[slot] = arg;
+            buffer.publish();
+        }
+    }
+
+    static void log(String fmt, int arg0, int arg1) {
+        Buffer buffer = THREAD_BUFFER.get();
+        int slot = buffer.claim(System.nanoTime(), fmt, KIND_INT_ARGS);
+        if (slot >= 0) {
+            buffer.intArgs0[slot] = arg0;
+            buffer.intArgs1[slot] = arg1;
+            buffer.publish();
+        }
+    }
+
+    static void log(String fmt, Object arg) {
+        Buffer buffer = THREAD_BUFFER.get();
+        int slot = buffer.claim(System.nanoTime(), fmt, KIND_OBJECT_ARG);
+        if (slot >= 0) {
+            buffer.objectArgs[slot] = arg;
+            buffer.publish();
+        }
+    }
+
+    static void log(String fmt, Object[] args) {
+        Buffer buffer = THREAD_BUFFER.get();
+        int slot = buffer.claim(System.nanoTime(), fmt, KIND_OBJECT_ARGS);
+        if (slot >= 0) {
+            buffer.objectArgs[slot] = args;
+            buffer.publish();
+        }
+    }
+
+    private static void drainContinuously() {
+        // noinspection InfiniteLoopStatement
+        for (; ; ) {
+            drain();
+            LockSupport.parkNanos(DRAIN_PERIOD_NANOS);
+        }
+    }
+
+    private static synchronized void drain() {
+        List<Record> records = new ArrayList<>();
+        for (Iterator<Buffer> iterator = BUFFERS.iterator(); iterator.hasNext(); ) {
+            Buffer buffer = iterator.next();
+            // Reading liveness before draining, so that the last records of a terminated owner are not missed.
+            boolean ownerAlive = buffer.owner.isAlive();
+            drain(buffer, records);
+            if (!ownerAlive) {
+                iterator.remove();
+            }
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+        records.sort(Comparator.comparingLong(record -> record.timestamp));
+        StringBuilder text = new StringBuilder();
+        for (Record record : records) {
+            text.append(record.line).append(System.lineSeparator());
+        }
+        System.out.print(text);
+        System.out.flush();
+    }
+
+    private static void drain(Buffer buffer, List<Record> records) {
+        long consumerIndex = (long) CONSUMER_INDEX.get(buffer);
+        long producerIndex = (long) PRODUCER_INDEX.getAcquire(buffer);
+        for (long index = consumerIndex; index < producerIndex; index++) {
+            int slot = (int) index & (CAPACITY - 1);
+            long timestamp = buffer.timestamps[slot];
+            String fmt = buffer.formats[slot];
+            String message;
+            try {
+                message = format(fmt, buffer.kinds[slot], buffer.intArgs0[slot], buffer.intArgs1[slot], buffer.objectArgs[slot]);
+            } catch (RuntimeException error) {
+                // Keeping the drainer alive, a malformed record must not silence all subsequent ones.
+                message = "failed to format log record (format=" + fmt + "): " + error;
+            }
+            buffer.formats[slot] = null;
+            buffer.objectArgs[slot] = null;
+            String line = Instant.ofEpochSecond(0, EPOCH_OFFSET_NANOS + timestamp) + " [" + buffer.ownerName + "] " + message;
+            records.add(new Record(timestamp, line));
+        }
+        CONSUMER_INDEX.setRelease(buffer, producerIndex);
+        long droppedCount = buffer.droppedCount;
+        if (droppedCount != buffer.reportedDroppedCount) {
+            String line = String.format(
+                    "%s [%s] dropped %d log records (bufferCapacity=%d)",
+                    Instant.now(), buffer.ownerName, droppedCount - buffer.reportedDroppedCount, CAPACITY);
+            records.add(new Record(System.nanoTime(), line));
+            buffer.reportedDroppedCount = droppedCount;
+        }
+    }
+
+    private static String format(String fmt, byte kind, int intArg0, int intArg1, Object objectArg) {
+        switch (kind) {
+            case KIND_INT_ARG:
+                return String.format(fmt, intArg0);
+            case KIND_INT_ARGS:
+                return String.format(fmt, intArg0, intArg1);
+            case KIND_OBJECT_ARG:
+                return String.format(fmt, objectArg);
+            case KIND_OBJECT_ARGS:
+                return String.format(fmt, (Object[]) objectArg);
+            default:
+                return String.format(fmt);
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+package benchmarks.core;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A reusable barrier completing a generation once it is signalled a given number of times, e.g., once per token.
+ * <p>
+ * Waiters capture the {@link #generation()} before initiating the work whose completion they wait for, and then
+ * {@link #awaitAdvance(int) await} it to advance, hence a completion signalled before the wait is never missed.
+ * The generation and the signal count of the current generation are packed into a single word updated by CAS, and
+ * waiters are pushed to a lock-free stack, which the completing signaller detaches and unparks, hence neither side
+ * takes a lock, and parking unmounts virtual threads rather than pinning their carriers.
+ */
+@ThreadSafe
+public class CompletionBarrier {
+
+    private static final VarHandle STATE;
+
+    private static final VarHandle WAITERS;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            STATE = lookup.findVarHandle(CompletionBarrier.class, "state", long.class);
+            WAITERS = lookup.findVarHandle(CompletionBarrier.class, "waiters", Waiter.class);
+        } catch (ReflectiveOperationException error) {
+            throw new ExceptionInInitializerError(error);
+        }
+    }
+
+    private static final class Waiter {
+
+        private final Thread thread;
+
+        private Waiter next;
+
+        private Waiter(Thread thread) {
+            this.thread = thread;
+        }
+
+    }
+
+    private final int signalCount;
+
+    /**
+     * The generation in the upper and the signal count of the current generation in the lower 32 bits.
+     */
+    @SuppressWarnings("unused")
+    private volatile long state = 0;
+
+    @SuppressWarnings("unused")
+    private volatile Waiter waiters = null;
+
+    public CompletionBarrier() {
+        this(1);
+    }
+
+    /**
+     * @param signalCount the number of signals completing a generation
+     */
+    public CompletionBarrier(int signalCount) {
+        if (signalCount < 1) {
+            throw new IllegalArgumentException("invalid signal count: " + signalCount);
+        }
+        this.signalCount = signalCount;
+    }
+
+    public int signalCount() {
+        return signalCount;
+    }
+
+    public int generation() {
+        return (int) (state >>> 32);
+    }
+
+    public void signal() {
+        for (; ; ) {
+            long currentState = state;
+            int generation = (int) (currentState >>> 32);
+            int currentSignalCount = (int) currentState + 1;
+            boolean completing = currentSignalCount == signalCount;
+            long nextState = completing ? (long) (generation + 1) << 32 : currentState + 1;
+            if (STATE.compareAndSet(this, currentState, nextState)) {
+                if (completing) {
+                    release();
+                }
+                return;
+            }
+        }
+    }
+
+    private void release() {
+        // Waiters pushed after the detachment re-check the generation before parking.
+        Waiter waiter = (Waiter) WAITERS.getAndSet(this, null);
+        for (; waiter != null; waiter = waiter.next) {
+            LockSupport.unpark(waiter.thread);
+        }
+    }
+
+    /**
+     * Waits until the given generation is completed, or the current thread is interrupted, in which case the
+     * interrupt status is left set.
+     *
+     * @param generation the {@link #generation()} captured before initiating the work
+     */
+    public void awaitAdvance(int generation) {
+        if (generation() != generation) {
+            return;
+        }
+        Waiter waiter = new Waiter(Thread.currentThread());
+        Waiter head;
+        do {
+            head = waiters;
+            waiter.next = head;
+        } while (!WAITERS.compareAndSet(this, head, waiter));
+        // A stale waiter left behind on interruption merely gets a spurious unpark at the next completion.
+        while (generation() == generation) {
+            LockSupport.park(this);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+}
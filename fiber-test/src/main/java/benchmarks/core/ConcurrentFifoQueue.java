@@ -0,0 +1,43 @@
+package benchmarks.core;
+
+import javax.annotation.Nullable;
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe garbage-free array-backed bounded FIFO queue.
+ * <p>
+ * Contrary to {@link FifoQueue}, a full queue is signaled by the return value of {@link #offer(Object)}
+ * rather than an exception, since it is a transient state under contention.
+ */
+public interface ConcurrentFifoQueue<E> {
+
+    int capacity();
+
+    /**
+     * @return {@code true} if enqueued, {@code false} if the queue is full
+     */
+    boolean offer(E item);
+
+    /**
+     * @return the dequeued item, or {@code null} if the queue is empty
+     */
+    @Nullable
+    E poll();
+
+    /**
+     * Dequeues up to the given number of items, passing them to the given consumer.
+     *
+     * @return the number of dequeued items
+     */
+    int drain(Consumer<? super E> consumer, int limit);
+
+    /**
+     * @return an estimate of the number of items, which is exact only in the absence of concurrent updates
+     */
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+}
@@ -57,7 +57,7 @@ public class FifoQueue<E> {
 
     @Nullable
     public E dequeue() {
-        log("dequeue (dequeueIndex=%d, size=%d)", () -> new Object[]{dequeueIndex, size});
+        log("dequeue (dequeueIndex=%d, size=%d)", dequeueIndex, size);
         boolean empty = isEmpty();
         if (empty) {
             return null;
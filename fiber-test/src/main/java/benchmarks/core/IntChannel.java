@@ -0,0 +1,118 @@
+package benchmarks.core;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A garbage-free bounded blocking channel of {@code int}s backed by an {@code int[]} ring buffer.
+ * <p>
+ * Supports a single producer and a single consumer at a time. Blocked parties park via {@link LockSupport},
+ * hence a blocked virtual thread releases its carrier. A party registers itself as waiter before parking and
+ * the counterparty unparks the registered waiter after publishing its index, where both sides use volatile
+ * accesses to rule out lost wake-ups.
+ */
+@ThreadSafe
+public class IntChannel {
+
+    private static final VarHandle PRODUCER_INDEX;
+
+    private static final VarHandle CONSUMER_INDEX;
+
+    private static final VarHandle PRODUCER_WAITER;
+
+    private static final VarHandle CONSUMER_WAITER;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(IntChannel.class, "producerIndex", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(IntChannel.class, "consumerIndex", long.class);
+            PRODUCER_WAITER = lookup.findVarHandle(IntChannel.class, "producerWaiter", Thread.class);
+            CONSUMER_WAITER = lookup.findVarHandle(IntChannel.class, "consumerWaiter", Thread.class);
+        } catch (ReflectiveOperationException error) {
+            throw new ExceptionInInitializerError(error);
+        }
+    }
+
+    private final int mask;
+
+    private final int[] items;
+
+    private long producerIndex = 0;
+
+    private long consumerIndex = 0;
+
+    @Nullable
+    private Thread producerWaiter = null;
+
+    @Nullable
+    private Thread consumerWaiter = null;
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    public IntChannel(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("invalid capacity: " + capacity);
+        }
+        int actualCapacity = PowerOfTwoHelper.ceilingPowerOfTwo(capacity);
+        this.mask = actualCapacity - 1;
+        this.items = new int[actualCapacity];
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public void put(int item) throws InterruptedException {
+        long index = producerIndex;
+        while (index - (long) CONSUMER_INDEX.getAcquire(this) > mask) {
+            PRODUCER_WAITER.setVolatile(this, Thread.currentThread());
+            if (index - (long) CONSUMER_INDEX.getVolatile(this) > mask) {
+                LockSupport.park(this);
+            }
+            PRODUCER_WAITER.setOpaque(this, null);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        items[(int) index & mask] = item;
+        PRODUCER_INDEX.setVolatile(this, index + 1);
+        wake(CONSUMER_WAITER);
+    }
+
+    public int take() throws InterruptedException {
+        long index = consumerIndex;
+        while (index >= (long) PRODUCER_INDEX.getAcquire(this)) {
+            CONSUMER_WAITER.setVolatile(this, Thread.currentThread());
+            if (index >= (long) PRODUCER_INDEX.getVolatile(this)) {
+                LockSupport.park(this);
+            }
+            CONSUMER_WAITER.setOpaque(this, null);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        int item = items[(int) index & mask];
+        CONSUMER_INDEX.setVolatile(this, index + 1);
+        wake(PRODUCER_WAITER);
+        return item;
+    }
+
+    private void wake(VarHandle waiterHandle) {
+        Thread waiter = (Thread) waiterHandle.getVolatile(this);
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    public int size() {
+        long consumerIndex = (long) CONSUMER_INDEX.getAcquire(this);
+        long producerIndex = (long) PRODUCER_INDEX.getAcquire(this);
+        return (int) Math.max(0, Math.min(producerIndex - consumerIndex, capacity()));
+    }
+
+}
@@ -0,0 +1,106 @@
+package benchmarks.core;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of non-negative nanosecond latencies with log-linear buckets, i.e., every power-of-two range is split into
+ * {@code 2^(precisionBits-1)} equally wide buckets, hence the relative error of a reported value is below
+ * {@code 2^(1-precisionBits)}.
+ * <p>
+ * Buckets are preallocated, hence {@link #record(long)} neither allocates nor branches on the range of the value.
+ * Not thread-safe, meant to be written by a single thread and read after a happens-before edge.
+ */
+public final class LatencyHistogram {
+
+    private final int precisionBits;
+
+    private final int subBucketHalfCount;
+
+    private final long[] counts;
+
+    private long totalCount = 0;
+
+    private long minValue = Long.MAX_VALUE;
+
+    private long maxValue = 0;
+
+    private long valueSum = 0;
+
+    public LatencyHistogram(int precisionBits) {
+        if (precisionBits < 1 || precisionBits > 16) {
+            throw new IllegalArgumentException("invalid precision bits: " + precisionBits);
+        }
+        this.precisionBits = precisionBits;
+        this.subBucketHalfCount = 1 << (precisionBits - 1);
+        this.counts = new long[(Long.SIZE - precisionBits + 2) * subBucketHalfCount];
+    }
+
+    public void record(long value) {
+        long nonNegativeValue = Math.max(0, value);
+        counts[indexOf(nonNegativeValue)]++;
+        totalCount++;
+        valueSum += nonNegativeValue;
+        minValue = Math.min(minValue, nonNegativeValue);
+        maxValue = Math.max(maxValue, nonNegativeValue);
+    }
+
+    private int indexOf(long value) {
+        int shift = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - precisionBits);
+        return shift * subBucketHalfCount + (int) (value >>> shift);
+    }
+
+    /**
+     * @return the highest value falling into the bucket at the given index
+     */
+    private long highestValueAt(int index) {
+        int shift = Math.max(0, index / subBucketHalfCount - 1);
+        long lowestValue = (long) (index - shift * subBucketHalfCount) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+
+    public long totalCount() {
+        return totalCount;
+    }
+
+    public long minValue() {
+        return totalCount == 0 ? 0 : minValue;
+    }
+
+    public long maxValue() {
+        return maxValue;
+    }
+
+    public double meanValue() {
+        return totalCount == 0 ? 0 : (double) valueSum / totalCount;
+    }
+
+    /**
+     * @return the value below or at which the given percentage of the recorded values fall, capped by {@link #maxValue()}
+     */
+    public long valueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("invalid percentile: " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        long targetCount = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long cumulativeCount = 0;
+        for (int index = 0; index < counts.length; index++) {
+            cumulativeCount += counts[index];
+            if (cumulativeCount >= targetCount) {
+                return Math.min(maxValue, highestValueAt(index));
+            }
+        }
+        return maxValue;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        minValue = Long.MAX_VALUE;
+        maxValue = 0;
+        valueSum = 0;
+    }
+
+}
@@ -0,0 +1,195 @@
+package benchmarks.core;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A multi-producer multi-consumer lock-free {@link ConcurrentFifoQueue}.
+ * <p>
+ * Follows Dmitry Vyukov's bounded MPMC queue: every slot carries a sequence number telling whether it is
+ * ready to be written at or read from a certain index. Producers and consumers claim indices via CAS and
+ * hand over slots to each other by release stores of the slot sequence.
+ */
+@ThreadSafe
+public class MpmcFifoQueue<E> extends MpmcFifoQueueConsumerFields implements ConcurrentFifoQueue<E> {
+
+    private static final VarHandle PRODUCER_INDEX;
+
+    private static final VarHandle CONSUMER_INDEX;
+
+    private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(MpmcFifoQueueProducerFields.class, "producerIndex", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(MpmcFifoQueueConsumerFields.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException error) {
+            throw new ExceptionInInitializerError(error);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private long p20, p21, p22, p23, p24, p25, p26, p27;
+
+    /**
+     * @param capacity rounded up to a power of two, which is at least 2
+     */
+    public MpmcFifoQueue(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public int capacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public boolean offer(E item) {
+        Objects.requireNonNull(item, "item");
+        long index = (long) PRODUCER_INDEX.getVolatile(this);
+        for (; ; ) {
+            int offset = (int) index & mask;
+            long sequence = (long) SEQUENCES.getAcquire(sequences, offset);
+            long difference = sequence - index;
+            if (difference == 0) {
+                if (PRODUCER_INDEX.compareAndSet(this, index, index + 1)) {
+                    items[offset] = item;
+                    SEQUENCES.setRelease(sequences, offset, index + 1);
+                    return true;
+                }
+                index = (long) PRODUCER_INDEX.getVolatile(this);
+            } else if (difference < 0) {
+                return false;
+            } else {
+                index = (long) PRODUCER_INDEX.getVolatile(this);
+            }
+        }
+    }
+
+    @Nullable
+    @Override
+    public E poll() {
+        long index = (long) CONSUMER_INDEX.getVolatile(this);
+        for (; ; ) {
+            int offset = (int) index & mask;
+            long sequence = (long) SEQUENCES.getAcquire(sequences, offset);
+            long difference = sequence - (index + 1);
+            if (difference == 0) {
+                if (CONSUMER_INDEX.compareAndSet(this, index, index + 1)) {
+                    // noinspection unchecked
+                    E item = (E) items[offset];
+                    items[offset] = null;
+                    SEQUENCES.setRelease(sequences, offset, index + mask + 1);
+                    return item;
+                }
+                index = (long) CONSUMER_INDEX.getVolatile(this);
+            } else if (difference < 0) {
+                return null;
+            } else {
+                index = (long) CONSUMER_INDEX.getVolatile(this);
+            }
+        }
+    }
+
+    /**
+     * Dequeues items by successive {@link #poll()}s, since multiple consumers cannot claim a batch of slots at once
+     * without knowing whether all of them are published.
+     */
+    @Override
+    public int drain(Consumer<? super E> consumer, int limit) {
+        int drainCount = 0;
+        while (drainCount < limit) {
+            E item = poll();
+            if (item == null) {
+                break;
+            }
+            consumer.accept(item);
+            drainCount++;
+        }
+        return drainCount;
+    }
+
+    @Override
+    public int size() {
+        long consumerIndex = (long) CONSUMER_INDEX.getAcquire(this);
+        long producerIndex = (long) PRODUCER_INDEX.getAcquire(this);
+        return (int) Math.max(0, Math.min(producerIndex - consumerIndex, capacity()));
+    }
+
+}
+
+abstract class MpmcFifoQueueFields {
+
+    final int mask;
+
+    final Object[] items;
+
+    final long[] sequences;
+
+    MpmcFifoQueueFields(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("invalid capacity: " + capacity);
+        }
+        int actualCapacity = PowerOfTwoHelper.ceilingPowerOfTwo(Math.max(2, capacity));
+        this.mask = actualCapacity - 1;
+        this.items = new Object[actualCapacity];
+        this.sequences = new long[actualCapacity];
+        for (int offset = 0; offset < actualCapacity; offset++) {
+            sequences[offset] = offset;
+        }
+    }
+
+}
+
+abstract class MpmcFifoQueueLeftPadding extends MpmcFifoQueueFields {
+
+    @SuppressWarnings("unused")
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+
+    MpmcFifoQueueLeftPadding(int capacity) {
+        super(capacity);
+    }
+
+}
+
+abstract class MpmcFifoQueueProducerFields extends MpmcFifoQueueLeftPadding {
+
+    /**
+     * Claimed by the producers via CAS.
+     */
+    long producerIndex;
+
+    MpmcFifoQueueProducerFields(int capacity) {
+        super(capacity);
+    }
+
+}
+
+abstract class MpmcFifoQueueMiddlePadding extends MpmcFifoQueueProducerFields {
+
+    @SuppressWarnings("unused")
+    private long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    MpmcFifoQueueMiddlePadding(int capacity) {
+        super(capacity);
+    }
+
+}
+
+abstract class MpmcFifoQueueConsumerFields extends MpmcFifoQueueMiddlePadding {
+
+    /**
+     * Claimed by the consumers via CAS.
+     */
+    long consumerIndex;
+
+    MpmcFifoQueueConsumerFields(int capacity) {
+        super(capacity);
+    }
+
+}
@@ -0,0 +1,194 @@
+package benchmarks.core;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A multi-producer single-consumer lock-free {@link ConcurrentFifoQueue}.
+ * <p>
+ * Producers claim a slot by a CAS on the producer index and publish the item by a release store into the slot,
+ * which the consumer reads with acquire semantics. A claimed but not yet published slot makes the consumer spin.
+ */
+@ThreadSafe
+public class MpscFifoQueue<E> extends MpscFifoQueueConsumerFields implements ConcurrentFifoQueue<E> {
+
+    private static final VarHandle PRODUCER_INDEX;
+
+    private static final VarHandle PRODUCER_LIMIT;
+
+    private static final VarHandle CONSUMER_INDEX;
+
+    private static final VarHandle ITEMS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(MpscFifoQueueProducerFields.class, "producerIndex", long.class);
+            PRODUCER_LIMIT = lookup.findVarHandle(MpscFifoQueueProducerFields.class, "producerLimit", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(MpscFifoQueueConsumerFields.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException error) {
+            throw new ExceptionInInitializerError(error);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private long p20, p21, p22, p23, p24, p25, p26, p27;
+
+    public MpscFifoQueue(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public int capacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public boolean offer(E item) {
+        Objects.requireNonNull(item, "item");
+        long index;
+        do {
+            index = (long) PRODUCER_INDEX.getVolatile(this);
+            long limit = (long) PRODUCER_LIMIT.getVolatile(this);
+            if (index >= limit) {
+                limit = (long) CONSUMER_INDEX.getAcquire(this) + mask + 1;
+                if (index >= limit) {
+                    return false;
+                }
+                PRODUCER_LIMIT.setRelease(this, limit);
+            }
+        } while (!PRODUCER_INDEX.compareAndSet(this, index, index + 1));
+        ITEMS.setRelease(items, (int) index & mask, item);
+        return true;
+    }
+
+    @Nullable
+    @Override
+    public E poll() {
+        long index = consumerIndex;
+        int offset = (int) index & mask;
+        Object item = ITEMS.getAcquire(items, offset);
+        if (item == null) {
+            if (index == (long) PRODUCER_INDEX.getVolatile(this)) {
+                return null;
+            }
+            // A producer has claimed the slot, but not published the item yet.
+            do {
+                Thread.onSpinWait();
+                item = ITEMS.getAcquire(items, offset);
+            } while (item == null);
+        }
+        items[offset] = null;
+        CONSUMER_INDEX.setRelease(this, index + 1);
+        // noinspection unchecked
+        return (E) item;
+    }
+
+    /**
+     * Dequeues the published items in a batch, publishing the consumer index only once.
+     * Stops at the first claimed but not yet published slot rather than spinning on it.
+     */
+    @Override
+    public int drain(Consumer<? super E> consumer, int limit) {
+        long index = consumerIndex;
+        int drainCount = 0;
+        while (drainCount < limit) {
+            int offset = (int) (index + drainCount) & mask;
+            Object item = ITEMS.getAcquire(items, offset);
+            if (item == null) {
+                break;
+            }
+            items[offset] = null;
+            // noinspection unchecked
+            consumer.accept((E) item);
+            drainCount++;
+        }
+        if (drainCount > 0) {
+            CONSUMER_INDEX.setRelease(this, index + drainCount);
+        }
+        return drainCount;
+    }
+
+    @Override
+    public int size() {
+        long consumerIndex = (long) CONSUMER_INDEX.getAcquire(this);
+        long producerIndex = (long) PRODUCER_INDEX.getAcquire(this);
+        return (int) Math.max(0, Math.min(producerIndex - consumerIndex, capacity()));
+    }
+
+}
+
+abstract class MpscFifoQueueFields {
+
+    final int mask;
+
+    final Object[] items;
+
+    MpscFifoQueueFields(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("invalid capacity: " + capacity);
+        }
+        int actualCapacity = PowerOfTwoHelper.ceilingPowerOfTwo(capacity);
+        this.mask = actualCapacity - 1;
+        this.items = new Object[actualCapacity];
+    }
+
+}
+
+abstract class MpscFifoQueueLeftPadding extends MpscFifoQueueFields {
+
+    @SuppressWarnings("unused")
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+
+    MpscFifoQueueLeftPadding(int capacity) {
+        super(capacity);
+    }
+
+}
+
+abstract class MpscFifoQueueProducerFields extends MpscFifoQueueLeftPadding {
+
+    /**
+     * Claimed by the producers via CAS.
+     */
+    long producerIndex;
+
+    /**
+     * Cached upper bound of the producer index, refreshed from the consumer index once exceeded.
+     */
+    long producerLimit;
+
+    MpscFifoQueueProducerFields(int capacity) {
+        super(capacity);
+        this.producerLimit = mask + 1;
+    }
+
+}
+
+abstract class MpscFifoQueueMiddlePadding extends MpscFifoQueueProducerFields {
+
+    @SuppressWarnings("unused")
+    private long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    MpscFifoQueueMiddlePadding(int capacity) {
+        super(capacity);
+    }
+
+}
+
+abstract class MpscFifoQueueConsumerFields extends MpscFifoQueueMiddlePadding {
+
+    /**
+     * Written by the consumer only, read by the producers.
+     */
+    long consumerIndex;
+
+    MpscFifoQueueConsumerFields(int capacity) {
+        super(capacity);
+    }
+
+}
@@ -0,0 +1,14 @@
+package benchmarks.core;
+
+public enum PowerOfTwoHelper {;
+
+    private static final int MAX_POWER_OF_TWO = 1 << 30;
+
+    public static int ceilingPowerOfTwo(int value) {
+        if (value < 1 || value > MAX_POWER_OF_TWO) {
+            throw new IllegalArgumentException("value out of range: " + value);
+        }
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+}
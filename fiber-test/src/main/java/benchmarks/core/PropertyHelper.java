@@ -1,5 +1,8 @@
 package benchmarks.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public enum PropertyHelper {;
 
     public static int readIntegerPropertyGreaterThanOrEqualTo(String name, String defaultValue, int minValue) {
@@ -22,9 +25,57 @@ public enum PropertyHelper {;
         return number;
     }
 
+    public static int[] readIntegerListPropertyGreaterThanOrEqualTo(String name, String defaultValue, int minValue) {
+        String value = System.getProperty(name, defaultValue);
+        String[] fields = value.split(",");
+        int[] numbers = new int[fields.length];
+        for (int fieldIndex = 0; fieldIndex < fields.length; fieldIndex++) {
+            try {
+                numbers[fieldIndex] = Integer.parseInt(fields[fieldIndex].trim());
+            } catch (NumberFormatException error) {
+                numbers[fieldIndex] = Integer.MIN_VALUE;
+            }
+            if (numbers[fieldIndex] < minValue) {
+                String message = String.format(
+                        "illegal integer list property (name=%s, defaultValue=%s, minValue=%d, value=%s)",
+                        name, defaultValue, minValue, value);
+                throw new IllegalArgumentException(message);
+            }
+        }
+        return numbers;
+    }
+
     public static boolean readBooleanProperty(String name, String defaultValue) {
         String value = System.getProperty(name, defaultValue);
         return Boolean.parseBoolean(value);
     }
 
+    public static <E extends Enum<E>> E readEnumProperty(String name, String defaultValue, Class<E> enumClass) {
+        String value = System.getProperty(name, defaultValue);
+        try {
+            return Enum.valueOf(enumClass, value.toUpperCase());
+        } catch (IllegalArgumentException error) {
+            String message = String.format(
+                    "illegal enum property (name=%s, defaultValue=%s, enumClass=%s, value=%s)",
+                    name, defaultValue, enumClass.getSimpleName(), value);
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    public static <E extends Enum<E>> List<E> readEnumListProperty(String name, String defaultValue, Class<E> enumClass) {
+        String value = System.getProperty(name, defaultValue);
+        List<E> constants = new ArrayList<>();
+        for (String field : value.split(",")) {
+            try {
+                constants.add(Enum.valueOf(enumClass, field.trim().toUpperCase()));
+            } catch (IllegalArgumentException error) {
+                String message = String.format(
+                        "illegal enum list property (name=%s, defaultValue=%s, enumClass=%s, value=%s)",
+                        name, defaultValue, enumClass.getSimpleName(), value);
+                throw new IllegalArgumentException(message);
+            }
+        }
+        return constants;
+    }
+
 }
@@ -0,0 +1,186 @@
+package benchmarks.core;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A single-producer single-consumer lock-free {@link ConcurrentFifoQueue}.
+ * <p>
+ * Producer and consumer indices are published via release/acquire ordering and are separated
+ * by padding to avoid false sharing. Each side caches the last index it has seen of the other
+ * side, hence touches the shared cache line of the other side only when the cached index runs out.
+ */
+@ThreadSafe
+public class SpscFifoQueue<E> extends SpscFifoQueueConsumerFields implements ConcurrentFifoQueue<E> {
+
+    private static final VarHandle PRODUCER_INDEX;
+
+    private static final VarHandle CONSUMER_INDEX;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(SpscFifoQueueProducerFields.class, "producerIndex", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(SpscFifoQueueConsumerFields.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException error) {
+            throw new ExceptionInInitializerError(error);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private long p20, p21, p22, p23, p24, p25, p26, p27;
+
+    public SpscFifoQueue(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public int capacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public boolean offer(E item) {
+        Objects.requireNonNull(item, "item");
+        long index = producerIndex;
+        if (index - consumerIndexCache > mask) {
+            consumerIndexCache = (long) CONSUMER_INDEX.getAcquire(this);
+            if (index - consumerIndexCache > mask) {
+                return false;
+            }
+        }
+        items[(int) index & mask] = item;
+        PRODUCER_INDEX.setRelease(this, index + 1);
+        return true;
+    }
+
+    @Nullable
+    @Override
+    public E poll() {
+        long index = consumerIndex;
+        if (index >= producerIndexCache) {
+            producerIndexCache = (long) PRODUCER_INDEX.getAcquire(this);
+            if (index >= producerIndexCache) {
+                return null;
+            }
+        }
+        int offset = (int) index & mask;
+        // noinspection unchecked
+        E item = (E) items[offset];
+        items[offset] = null;
+        CONSUMER_INDEX.setRelease(this, index + 1);
+        return item;
+    }
+
+    /**
+     * Dequeues the available items in a batch, publishing the consumer index only once.
+     */
+    @Override
+    public int drain(Consumer<? super E> consumer, int limit) {
+        long index = consumerIndex;
+        long availableCount = producerIndexCache - index;
+        if (availableCount < limit) {
+            producerIndexCache = (long) PRODUCER_INDEX.getAcquire(this);
+            availableCount = producerIndexCache - index;
+        }
+        int drainCount = (int) Math.min(availableCount, limit);
+        for (int drainIndex = 0; drainIndex < drainCount; drainIndex++) {
+            int offset = (int) (index + drainIndex) & mask;
+            // noinspection unchecked
+            E item = (E) items[offset];
+            items[offset] = null;
+            consumer.accept(item);
+        }
+        if (drainCount > 0) {
+            CONSUMER_INDEX.setRelease(this, index + drainCount);
+        }
+        return drainCount;
+    }
+
+    @Override
+    public int size() {
+        long consumerIndex = (long) CONSUMER_INDEX.getAcquire(this);
+        long producerIndex = (long) PRODUCER_INDEX.getAcquire(this);
+        return (int) Math.max(0, Math.min(producerIndex - consumerIndex, capacity()));
+    }
+
+}
+
+abstract class SpscFifoQueueFields {
+
+    final int mask;
+
+    final Object[] items;
+
+    SpscFifoQueueFields(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("invalid capacity: " + capacity);
+        }
+        int actualCapacity = PowerOfTwoHelper.ceilingPowerOfTwo(capacity);
+        this.mask = actualCapacity - 1;
+        this.items = new Object[actualCapacity];
+    }
+
+}
+
+abstract class SpscFifoQueueLeftPadding extends SpscFifoQueueFields {
+
+    @SuppressWarnings("unused")
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+
+    SpscFifoQueueLeftPadding(int capacity) {
+        super(capacity);
+    }
+
+}
+
+abstract class SpscFifoQueueProducerFields extends SpscFifoQueueLeftPadding {
+
+    /**
+     * Written by the producer only, read by the consumer.
+     */
+    long producerIndex;
+
+    /**
+     * Accessed by the producer only.
+     */
+    long consumerIndexCache;
+
+    SpscFifoQueueProducerFields(int capacity) {
+        super(capacity);
+    }
+
+}
+
+abstract class SpscFifoQueueMiddlePadding extends SpscFifoQueueProducerFields {
+
+    @SuppressWarnings("unused")
+    private long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    SpscFifoQueueMiddlePadding(int capacity) {
+        super(capacity);
+    }
+
+}
+
+abstract class SpscFifoQueueConsumerFields extends SpscFifoQueueMiddlePadding {
+
+    /**
+     * Written by the consumer only, read by the producer.
+     */
+    long consumerIndex;
+
+    /**
+     * Accessed by the consumer only.
+     */
+    long producerIndexCache;
+
+    SpscFifoQueueConsumerFields(int capacity) {
+        super(capacity);
+    }
+
+}
@@ -3,27 +3,68 @@ package benchmarks.core;
 import java.time.Instant;
 import java.util.function.Supplier;
 
+/**
+ * Logs to the standard output if {@code stdoutLogger.enabled} is set.
+ * <p>
+ * By default, every call formats and prints synchronously, hence serializes the logging threads on the
+ * {@link System#out} lock. If {@code stdoutLogger.async} is set, records are rather handed over to
+ * {@link AsyncStdoutLogger}, which keeps the {@code int} overloads free of locks and allocations.
+ */
 public enum StdoutLogger {
     ;
 
     private static final boolean ENABLED = PropertyHelper.readBooleanProperty("stdoutLogger.enabled", "false");
 
+    private static final boolean ASYNC = PropertyHelper.readBooleanProperty("stdoutLogger.async", "false");
+
     public static void log(String fmt) {
         if (ENABLED) {
-            System.out.format(Instant.now() + " [" + Thread.currentThread().getName() + "] " + fmt + "%n");
+            if (ASYNC) {
+                AsyncStdoutLogger.log(fmt);
+            } else {
+                System.out.format(Instant.now() + " [" + Thread.currentThread().getName() + "] " + fmt + "%n");
+            }
+        }
+    }
+
+    public static void log(String fmt, int arg) {
+        if (ENABLED) {
+            if (ASYNC) {
+                AsyncStdoutLogger.log(fmt, arg);
+            } else {
+                System.out.format(Instant.now() + " [" + Thread.currentThread().getName() + "] " + fmt + "%n", arg);
+            }
+        }
+    }
+
+    public static void log(String fmt, int arg0, int arg1) {
+        if (ENABLED) {
+            if (ASYNC) {
+                AsyncStdoutLogger.log(fmt, arg0, arg1);
+            } else {
+                System.out.format(Instant.now() + " [" + Thread.currentThread().getName() + "] " + fmt + "%n", arg0, arg1);
+            }
         }
     }
 
     public static void log(String fmt, Object arg) {
         if (ENABLED) {
-            System.out.format(Instant.now() + " [" + Thread.currentThread().getName() + "] " + fmt + "%n", arg);
+            if (ASYNC) {
+                AsyncStdoutLogger.log(fmt, arg);
+            } else {
+                System.out.format(Instant.now() + " [" + Thread.currentThread().getName() + "] " + fmt + "%n", arg);
+            }
         }
     }
 
     public static void log(String fmt, Supplier<Object[]> argsSupplier) {
         if (ENABLED) {
             Object[] args = argsSupplier.get();
-            System.out.format(Instant.now() + " [" + Thread.currentThread().getName() + "] " + fmt + "%n", args);
+            if (ASYNC) {
+                AsyncStdoutLogger.log(fmt, args);
+            } else {
+                System.out.format(Instant.now() + " [" + Thread.currentThread().getName() + "] " + fmt + "%n", args);
+            }
         }
     }
 
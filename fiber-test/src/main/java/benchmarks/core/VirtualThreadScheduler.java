@@ -0,0 +1,142 @@
+package benchmarks.core;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static benchmarks.core.StdoutLogger.log;
+
+/**
+ * Factory of virtual {@link Thread}s mounted on a pluggable set of carrier threads.
+ * <p>
+ * The JDK does not expose a public API to pick the scheduler of a virtual thread,
+ * hence non-{@link Kind#DEFAULT default} schedulers reach for the package-private
+ * {@code java.lang.ThreadBuilders$VirtualThreadBuilder(Executor)} constructor, which
+ * requires {@value #ADD_OPENS_JVM_ARG} on the command line.
+ */
+public final class VirtualThreadScheduler implements AutoCloseable {
+
+    public static final String ADD_OPENS_JVM_ARG = "--add-opens=java.base/java.lang=ALL-UNNAMED";
+
+    public enum Kind {
+
+        /**
+         * The JDK built-in {@link java.util.concurrent.ForkJoinPool ForkJoinPool} scheduler.
+         */
+        DEFAULT,
+
+        /**
+         * A single carrier thread, i.e., every hand-off is a same-carrier continuation switch.
+         */
+        SINGLE,
+
+        /**
+         * A fixed number of carrier threads.
+         */
+        FIXED
+
+    }
+
+    private final String name;
+
+    @Nullable
+    private final ExecutorService carrierExecutorService;
+
+    private final Thread.Builder.OfVirtual builder;
+
+    private final ThreadFactory threadFactory;
+
+    private VirtualThreadScheduler(String name, @Nullable ExecutorService carrierExecutorService, Thread.Builder.OfVirtual builder) {
+        this.name = name;
+        this.carrierExecutorService = carrierExecutorService;
+        this.builder = builder;
+        this.threadFactory = builder.factory();
+    }
+
+    public static VirtualThreadScheduler create(Kind kind, int carrierCount) {
+        if (carrierCount < 1) {
+            throw new IllegalArgumentException("invalid carrier count: " + carrierCount);
+        }
+        log("creating virtual thread scheduler (kind=%s, carrierCount=%d)", () -> new Object[]{kind, carrierCount});
+        switch (kind) {
+            case DEFAULT:
+                return new VirtualThreadScheduler("default", null, Thread.ofVirtual());
+            case SINGLE:
+                return ownedBy("single", Executors.newSingleThreadExecutor(new CarrierThreadFactory()));
+            case FIXED:
+                return ownedBy("fixed" + carrierCount, Executors.newFixedThreadPool(carrierCount, new CarrierThreadFactory()));
+            default:
+                throw new IllegalArgumentException("unknown scheduler kind: " + kind);
+        }
+    }
+
+    /**
+     * Creates a scheduler mounting virtual threads on the given executor, which is not owned, i.e., not shut down on {@link #close()}.
+     */
+    public static VirtualThreadScheduler on(Executor carrierExecutor) {
+        return new VirtualThreadScheduler(carrierExecutor.getClass().getSimpleName(), null, createBuilder(carrierExecutor));
+    }
+
+    private static VirtualThreadScheduler ownedBy(String name, ExecutorService carrierExecutorService) {
+        return new VirtualThreadScheduler(name, carrierExecutorService, createBuilder(carrierExecutorService));
+    }
+
+    private static Thread.Builder.OfVirtual createBuilder(Executor carrierExecutor) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.ThreadBuilders$VirtualThreadBuilder");
+            Constructor<?> builderConstructor = builderClass.getDeclaredConstructor(Executor.class);
+            builderConstructor.setAccessible(true);
+            return (Thread.Builder.OfVirtual) builderConstructor.newInstance(carrierExecutor);
+        } catch (RuntimeException | ReflectiveOperationException error) {
+            String message = String.format(
+                    "could not create a virtual thread builder with a custom scheduler, is %s provided?",
+                    ADD_OPENS_JVM_ARG);
+            throw new IllegalStateException(message, error);
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Creates an unstarted virtual thread running the given task.
+     * Not thread-safe, see {@link #threadFactory()} for concurrent use.
+     */
+    public Thread newThread(String threadName, Runnable task) {
+        return builder.name(threadName).unstarted(task);
+    }
+
+    /**
+     * @return a thread-safe factory of unnamed virtual threads
+     */
+    public ThreadFactory threadFactory() {
+        return threadFactory;
+    }
+
+    @Override
+    public void close() {
+        if (carrierExecutorService != null) {
+            log("shutting down the carrier executor service (name=%s)", name);
+            carrierExecutorService.shutdown();
+        }
+    }
+
+    private static final class CarrierThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Carrier-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
@@ -0,0 +1,185 @@
+package benchmarks.core;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Strategy to wait for a condition published by another thread, trading hand-off latency for CPU burn.
+ * <p>
+ * The waiter calls {@link #idle(int, Object)} in a loop as long as the condition does not hold,
+ * threading the returned idle count into the next call, and reports the final idle count via
+ * {@link #signalled(int)}. The signaller publishes the condition and then calls {@link #wake(Thread)}.
+ * <p>
+ * Instances are meant to be used by a single waiter, since they might carry adaptive state.
+ * Note that {@link Kind#BUSY_SPIN} never releases the carrier of a virtual thread, hence it
+ * starves rings with more workers than carriers.
+ */
+public abstract class WaitStrategy {
+
+    public enum Kind {
+
+        /**
+         * Parks right away, i.e., the behaviour of a plain {@link LockSupport#park(Object)} loop.
+         */
+        PARK,
+
+        /**
+         * Spins via {@link Thread#onSpinWait()} forever.
+         */
+        BUSY_SPIN,
+
+        /**
+         * Spins a bounded number of times and then {@link Thread#yield() yield}s.
+         */
+        SPIN_YIELD,
+
+        /**
+         * Spins a bounded number of times and then parks.
+         */
+        SPIN_PARK,
+
+        /**
+         * Spins and then parks, where the spin limit starts at the spin count, is halved whenever spinning
+         * fails, and is doubled back, up to at most the spin count, whenever spinning succeeds.
+         */
+        ADAPTIVE
+
+    }
+
+    private WaitStrategy() {}
+
+    public static WaitStrategy create(Kind kind, int spinCount) {
+        if (spinCount < 0) {
+            throw new IllegalArgumentException("invalid spin count: " + spinCount);
+        }
+        switch (kind) {
+            case PARK:
+                return new SpinPark(0);
+            case BUSY_SPIN:
+                return new BusySpin();
+            case SPIN_YIELD:
+                return new SpinYield(spinCount);
+            case SPIN_PARK:
+                return new SpinPark(spinCount);
+            case ADAPTIVE:
+                return new Adaptive(spinCount);
+            default:
+                throw new IllegalArgumentException("unknown wait strategy kind: " + kind);
+        }
+    }
+
+    /**
+     * Idles once while the awaited condition does not hold.
+     *
+     * @param idleCount number of preceding idle calls of the current wait
+     * @param blocker   the object the waiter is blocked on, see {@link LockSupport#park(Object)}
+     * @return the idle count to be passed to the next call
+     */
+    public abstract int idle(int idleCount, Object blocker);
+
+    /**
+     * Notifies that the awaited condition holds after the given number of idle calls.
+     */
+    public void signalled(int idleCount) {}
+
+    /**
+     * Wakes up the given waiter after the awaited condition is published.
+     */
+    public void wake(Thread waiter) {
+        LockSupport.unpark(waiter);
+    }
+
+    private static final class BusySpin extends WaitStrategy {
+
+        @Override
+        public int idle(int idleCount, Object blocker) {
+            Thread.onSpinWait();
+            return idleCount + 1;
+        }
+
+        @Override
+        public void wake(Thread waiter) {
+            // Nothing to be done, the waiter never parks.
+        }
+
+    }
+
+    private static final class SpinYield extends WaitStrategy {
+
+        private final int spinCount;
+
+        private SpinYield(int spinCount) {
+            this.spinCount = spinCount;
+        }
+
+        @Override
+        public int idle(int idleCount, Object blocker) {
+            if (idleCount < spinCount) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+            return idleCount + 1;
+        }
+
+        @Override
+        public void wake(Thread waiter) {
+            // Nothing to be done, the waiter never parks.
+        }
+
+    }
+
+    private static final class SpinPark extends WaitStrategy {
+
+        private final int spinCount;
+
+        private SpinPark(int spinCount) {
+            this.spinCount = spinCount;
+        }
+
+        @Override
+        public int idle(int idleCount, Object blocker) {
+            if (idleCount < spinCount) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.park(blocker);
+            }
+            return idleCount + 1;
+        }
+
+    }
+
+    private static final class Adaptive extends WaitStrategy {
+
+        private static final int MIN_SPIN_LIMIT = 1;
+
+        private final int maxSpinLimit;
+
+        private int spinLimit;
+
+        private Adaptive(int maxSpinLimit) {
+            this.maxSpinLimit = Math.max(MIN_SPIN_LIMIT, maxSpinLimit);
+            this.spinLimit = this.maxSpinLimit;
+        }
+
+        @Override
+        public int idle(int idleCount, Object blocker) {
+            if (idleCount < spinLimit) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.park(blocker);
+            }
+            return idleCount + 1;
+        }
+
+        @Override
+        public void signalled(int idleCount) {
+            if (idleCount <= spinLimit) {
+                spinLimit = Math.min(maxSpinLimit, spinLimit << 1);
+            } else {
+                spinLimit = Math.max(MIN_SPIN_LIMIT, spinLimit >> 1);
+            }
+        }
+
+    }
+
+}
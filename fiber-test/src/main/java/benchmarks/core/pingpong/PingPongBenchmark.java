@@ -0,0 +1,14 @@
+package benchmarks.core.pingpong;
+
+/**
+ * Latency benchmark, where two workers hand a token back and forth {@link PingPongBenchmarkConfig#ROUND_TRIP_COUNT}
+ * times and every round trip is recorded into a histogram.
+ */
+public interface PingPongBenchmark extends AutoCloseable {
+
+    /**
+     * @return the number of completed round trips
+     */
+    int pingPongBenchmark() throws Exception;
+
+}
@@ -0,0 +1,16 @@
+package benchmarks.core.pingpong;
+
+import benchmarks.core.PropertyHelper;
+import benchmarks.core.VirtualThreadScheduler;
+
+public enum PingPongBenchmarkConfig {;
+
+    public static final int ROUND_TRIP_COUNT = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("pingPong.roundTripCount", "10000", 1);
+
+    public static final int HISTOGRAM_PRECISION_BITS = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("pingPong.histogramPrecisionBits", "8", 1);
+
+    public static final VirtualThreadScheduler.Kind CARRIER_SCHEDULER = PropertyHelper.readEnumProperty("pingPong.carrierScheduler", "SINGLE", VirtualThreadScheduler.Kind.class);
+
+    public static final int CARRIER_COUNT = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("pingPong.carrierCount", "2", 1);
+
+}
@@ -0,0 +1,31 @@
+package benchmarks.core.ring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Spans a worker locking its next worker, handing the token over, and signalling it.
+ */
+@Name(HandoffEvent.NAME)
+@Label("Ring Handoff")
+@Description("A worker handing the token over to its next worker")
+@Category({"Benchmarks", "Ring"})
+@StackTrace(false)
+public final class HandoffEvent extends Event {
+
+    public static final String NAME = "benchmarks.ring.Handoff";
+
+    @Label("From Worker")
+    public int fromWorkerId;
+
+    @Label("To Worker")
+    public int toWorkerId;
+
+    @Label("Sequence")
+    public int sequence;
+
+}
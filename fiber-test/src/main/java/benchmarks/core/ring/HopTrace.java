@@ -0,0 +1,73 @@
+package benchmarks.core.ring;
+
+/**
+ * Preallocated buffers of the {@link System#nanoTime()} stamps of the hops received by a single ring worker.
+ * <p>
+ * For every hop, the signalling worker stamps the time it started locking the receiver and the time it
+ * signalled the receiver, and the receiver stamps the time it woke up. Both sides are expected to call
+ * in while holding the lock of the receiver. Hops beyond the capacity are counted, but not stamped.
+ */
+public final class HopTrace {
+
+    private final long[] lockStartTimesNanos;
+
+    private final long[] signalTimesNanos;
+
+    private final long[] wakeUpTimesNanos;
+
+    private int hopCount = 0;
+
+    private int droppedHopCount = 0;
+
+    private boolean signalled = false;
+
+    HopTrace(int capacity) {
+        this.lockStartTimesNanos = new long[capacity];
+        this.signalTimesNanos = new long[capacity];
+        this.wakeUpTimesNanos = new long[capacity];
+    }
+
+    public void signalled(long lockStartTimeNanos, long signalTimeNanos) {
+        if (hopCount < signalTimesNanos.length) {
+            lockStartTimesNanos[hopCount] = lockStartTimeNanos;
+            signalTimesNanos[hopCount] = signalTimeNanos;
+            signalled = true;
+        } else {
+            droppedHopCount++;
+        }
+    }
+
+    /**
+     * Stamps the wake-up of the last {@link #signalled(long, long) signalled} hop, if any,
+     * i.e., wake-ups of hops not initiated by another worker are ignored.
+     */
+    public void wokeUp(long wakeUpTimeNanos) {
+        if (signalled) {
+            wakeUpTimesNanos[hopCount++] = wakeUpTimeNanos;
+            signalled = false;
+        }
+    }
+
+    int hopCount() {
+        return hopCount;
+    }
+
+    int droppedHopCount() {
+        return droppedHopCount;
+    }
+
+    long lockDurationNanos(int hopIndex) {
+        return signalTimesNanos[hopIndex] - lockStartTimesNanos[hopIndex];
+    }
+
+    long wakeUpDelayNanos(int hopIndex) {
+        return wakeUpTimesNanos[hopIndex] - signalTimesNanos[hopIndex];
+    }
+
+    void reset() {
+        hopCount = 0;
+        droppedHopCount = 0;
+        signalled = false;
+    }
+
+}
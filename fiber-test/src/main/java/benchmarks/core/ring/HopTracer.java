@@ -0,0 +1,105 @@
+package benchmarks.core.ring;
+
+import benchmarks.core.LatencyHistogram;
+
+import static benchmarks.core.DurationHelper.formatDurationNanos;
+
+/**
+ * Owner of the {@link HopTrace}s of a ring, which folds them into histograms of lock acquisition time and
+ * wake-up delay, both per hop and per ring position.
+ * <p>
+ * The lock acquisition time spans from the signaller starting to lock the receiver to signalling it,
+ * whereas the wake-up delay spans from the signal to the receiver returning from its wait, i.e., it
+ * covers the scheduler dispatch delay and the reacquisition of the lock of the receiver.
+ */
+public final class HopTracer {
+
+    private static final int HISTOGRAM_PRECISION_BITS = 8;
+
+    private final HopTrace[] traces;
+
+    private final LatencyHistogram[] positionWakeUpDelayHistograms;
+
+    private final LatencyHistogram lockDurationHistogram = new LatencyHistogram(HISTOGRAM_PRECISION_BITS);
+
+    private final LatencyHistogram wakeUpDelayHistogram = new LatencyHistogram(HISTOGRAM_PRECISION_BITS);
+
+    private long droppedHopCount = 0;
+
+    /**
+     * @param hopCapacity the maximum number of hops a single worker receives between two {@link #fold()}s
+     */
+    public HopTracer(int workerCount, int hopCapacity) {
+        this.traces = new HopTrace[workerCount];
+        this.positionWakeUpDelayHistograms = new LatencyHistogram[workerCount];
+        for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+            traces[workerIndex] = new HopTrace(hopCapacity);
+            positionWakeUpDelayHistograms[workerIndex] = new LatencyHistogram(HISTOGRAM_PRECISION_BITS);
+        }
+    }
+
+    /**
+     * @return the hop capacity sufficient for a single token passed {@code messagePassingCount} times around a ring
+     */
+    public static int singleTokenHopCapacity(int workerCount, int messagePassingCount) {
+        return messagePassingCount / workerCount + 1;
+    }
+
+    public HopTrace trace(int workerIndex) {
+        return traces[workerIndex];
+    }
+
+    /**
+     * Moves the stamps collected since the last fold into the histograms.
+     * Expected to be called while the ring is idle.
+     */
+    public void fold() {
+        for (int workerIndex = 0; workerIndex < traces.length; workerIndex++) {
+            HopTrace trace = traces[workerIndex];
+            LatencyHistogram positionWakeUpDelayHistogram = positionWakeUpDelayHistograms[workerIndex];
+            for (int hopIndex = 0; hopIndex < trace.hopCount(); hopIndex++) {
+                long wakeUpDelayNanos = trace.wakeUpDelayNanos(hopIndex);
+                lockDurationHistogram.record(trace.lockDurationNanos(hopIndex));
+                wakeUpDelayHistogram.record(wakeUpDelayNanos);
+                positionWakeUpDelayHistogram.record(wakeUpDelayNanos);
+            }
+            droppedHopCount += trace.droppedHopCount();
+            trace.reset();
+        }
+    }
+
+    /**
+     * Reports the histograms folded since the last report.
+     */
+    public void report(String name) {
+        if (wakeUpDelayHistogram.totalCount() == 0) {
+            return;
+        }
+        System.out.format(
+                "hop trace (name=%s, hopCount=%d, droppedHopCount=%d)%n",
+                name, wakeUpDelayHistogram.totalCount(), droppedHopCount);
+        report("lock acquisition", lockDurationHistogram);
+        report("wake-up delay", wakeUpDelayHistogram);
+        for (int workerIndex = 0; workerIndex < traces.length; workerIndex++) {
+            report(String.format("wake-up delay [%2d]", workerIndex), positionWakeUpDelayHistograms[workerIndex]);
+        }
+        lockDurationHistogram.reset();
+        wakeUpDelayHistogram.reset();
+        for (LatencyHistogram positionWakeUpDelayHistogram : positionWakeUpDelayHistograms) {
+            positionWakeUpDelayHistogram.reset();
+        }
+        droppedHopCount = 0;
+    }
+
+    private static void report(String label, LatencyHistogram histogram) {
+        System.out.format(
+                "  %s: mean=%s p50=%s p99=%s p99.9=%s max=%s%n",
+                label,
+                formatDurationNanos((long) histogram.meanValue()),
+                formatDurationNanos(histogram.valueAtPercentile(50)),
+                formatDurationNanos(histogram.valueAtPercentile(99)),
+                formatDurationNanos(histogram.valueAtPercentile(99.9)),
+                formatDurationNanos(histogram.maxValue()));
+    }
+
+}
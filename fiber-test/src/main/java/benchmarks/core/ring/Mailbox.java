@@ -0,0 +1,165 @@
+package benchmarks.core.ring;
+
+import benchmarks.core.ConcurrentFifoQueue;
+import benchmarks.core.MpmcFifoQueue;
+import benchmarks.core.MpscFifoQueue;
+import benchmarks.core.SpscFifoQueue;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.Exchanger;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A blocking hand-off of the ring token to a single receiver.
+ * <p>
+ * Kinds backed by a JDK primitive block in {@link #put(Integer)} until the receiver has {@link #take() taken} the
+ * token, whereas kinds backed by a {@link ConcurrentFifoQueue} return once the token is enqueued and unpark the
+ * receiver.
+ */
+public interface Mailbox {
+
+    enum Kind {
+
+        SYNCHRONOUS_QUEUE,
+
+        EXCHANGER,
+
+        LINKED_TRANSFER_QUEUE,
+
+        SPSC_QUEUE,
+
+        MPSC_QUEUE,
+
+        MPMC_QUEUE;
+
+        public Mailbox create() {
+            switch (this) {
+                case SYNCHRONOUS_QUEUE:
+                    return new SynchronousQueueMailbox();
+                case EXCHANGER:
+                    return new ExchangerMailbox();
+                case LINKED_TRANSFER_QUEUE:
+                    return new TransferQueueMailbox();
+                case SPSC_QUEUE:
+                    return new ConcurrentFifoQueueMailbox(new SpscFifoQueue<>(QUEUE_CAPACITY));
+                case MPSC_QUEUE:
+                    return new ConcurrentFifoQueueMailbox(new MpscFifoQueue<>(QUEUE_CAPACITY));
+                case MPMC_QUEUE:
+                    return new ConcurrentFifoQueueMailbox(new MpmcFifoQueue<>(QUEUE_CAPACITY));
+                default:
+                    throw new IllegalArgumentException("unknown kind: " + this);
+            }
+        }
+
+    }
+
+    /**
+     * A ring passes a single token, hence a mailbox never holds more than one.
+     */
+    int QUEUE_CAPACITY = 1;
+
+    void put(Integer sequence) throws InterruptedException;
+
+    Integer take() throws InterruptedException;
+
+    final class SynchronousQueueMailbox implements Mailbox {
+
+        private final SynchronousQueue<Integer> queue = new SynchronousQueue<>();
+
+        @Override
+        public void put(Integer sequence) throws InterruptedException {
+            queue.put(sequence);
+        }
+
+        @Override
+        public Integer take() throws InterruptedException {
+            return queue.take();
+        }
+
+    }
+
+    /**
+     * Receivers offer {@code null} in exchange of the token, and senders discard what they get back.
+     */
+    final class ExchangerMailbox implements Mailbox {
+
+        private final Exchanger<Integer> exchanger = new Exchanger<>();
+
+        @Override
+        public void put(Integer sequence) throws InterruptedException {
+            exchanger.exchange(sequence);
+        }
+
+        @Override
+        public Integer take() throws InterruptedException {
+            return exchanger.exchange(null);
+        }
+
+    }
+
+    final class TransferQueueMailbox implements Mailbox {
+
+        private final LinkedTransferQueue<Integer> queue = new LinkedTransferQueue<>();
+
+        @Override
+        public void put(Integer sequence) throws InterruptedException {
+            queue.transfer(sequence);
+        }
+
+        @Override
+        public Integer take() throws InterruptedException {
+            return queue.take();
+        }
+
+    }
+
+    /**
+     * The receiver registers itself on its first {@link #take()} and parks while the queue is empty, and senders
+     * unpark it after every enqueue. Both sides fence between their write and their read of the other side's state,
+     * hence either the sender sees the receiver or the receiver sees the token.
+     */
+    final class ConcurrentFifoQueueMailbox implements Mailbox {
+
+        private final ConcurrentFifoQueue<Integer> queue;
+
+        private volatile Thread receiver = null;
+
+        ConcurrentFifoQueueMailbox(ConcurrentFifoQueue<Integer> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void put(Integer sequence) {
+            while (!queue.offer(sequence)) {
+                Thread.yield();
+            }
+            VarHandle.fullFence();
+            Thread receiver = this.receiver;
+            if (receiver != null) {
+                LockSupport.unpark(receiver);
+            }
+        }
+
+        @Override
+        public Integer take() throws InterruptedException {
+            if (receiver == null) {
+                receiver = Thread.currentThread();
+                VarHandle.fullFence();
+            }
+            for (; ; ) {
+                Integer sequence = queue.poll();
+                if (sequence != null) {
+                    return sequence;
+                }
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                LockSupport.park(this);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,25 @@
+package benchmarks.core.ring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Spans a single wait of a worker for the token, i.e., from parking until being woken up, spuriously or not.
+ */
+@Name(ParkEvent.NAME)
+@Label("Ring Park")
+@Description("A worker waiting for the token")
+@Category({"Benchmarks", "Ring"})
+@StackTrace(false)
+public final class ParkEvent extends Event {
+
+    public static final String NAME = "benchmarks.ring.Park";
+
+    @Label("Worker")
+    public int workerId;
+
+}
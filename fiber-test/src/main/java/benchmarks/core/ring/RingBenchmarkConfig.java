@@ -2,6 +2,8 @@ package benchmarks.core.ring;
 
 
 import benchmarks.core.PropertyHelper;
+import benchmarks.core.VirtualThreadScheduler;
+import benchmarks.core.WaitStrategy;
 
 public enum RingBenchmarkConfig {;
 
@@ -11,4 +13,24 @@ public enum RingBenchmarkConfig {;
 
     public static final int MESSAGE_PASSING_COUNT = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("ring.messagePassingCount", "6000", 0);
 
+    public static final int TOKEN_COUNT = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("ring.tokenCount", "1", 1);
+
+    public static final VirtualThreadScheduler.Kind CARRIER_SCHEDULER = PropertyHelper.readEnumProperty("ring.carrierScheduler", "DEFAULT", VirtualThreadScheduler.Kind.class);
+
+    public static final int CARRIER_COUNT = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("ring.carrierCount", String.valueOf(Runtime.getRuntime().availableProcessors()), 1);
+
+    public static final int SHARD_COUNT = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("ring.shardCount", "1", 1);
+
+    public static final ShardScheduling SHARD_SCHEDULING = PropertyHelper.readEnumProperty("ring.shardScheduling", "SHARED", ShardScheduling.class);
+
+    public static final WaitStrategy.Kind WAIT_STRATEGY = PropertyHelper.readEnumProperty("ring.waitStrategy", "PARK", WaitStrategy.Kind.class);
+
+    public static final int SPIN_COUNT = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("ring.spinCount", "1000", 0);
+
+    public static final Mailbox.Kind MAILBOX = PropertyHelper.readEnumProperty("ring.mailbox", "SYNCHRONOUS_QUEUE", Mailbox.Kind.class);
+
+    public static final boolean HOP_TRACING = PropertyHelper.readBooleanProperty("ring.hopTracing", "false");
+
+    public static final boolean JFR_EVENTS = PropertyHelper.readBooleanProperty("ring.jfrEvents", "false");
+
 }
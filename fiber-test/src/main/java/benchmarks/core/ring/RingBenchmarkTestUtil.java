@@ -13,20 +13,28 @@ enum RingBenchmarkTestUtil {
     ;
 
     static void test(Supplier<RingBenchmark> benchmarkSupplier) {
+        test(benchmarkSupplier, 1);
+    }
+
+    static void test(Supplier<RingBenchmark> benchmarkSupplier, int tokenCount) {
         try (RingBenchmark benchmark = benchmarkSupplier.get()) {
             // Running benchmark multiple times to check if the worker reuse is causing any discrepancies.
             for (int trialIndex = 0; trialIndex < 1; trialIndex++) {
-                test(trialIndex, benchmark);
+                test(trialIndex, benchmark, tokenCount);
             }
         } catch (Exception error) {
             throw new RuntimeException(error);
         }
     }
 
-    private static void test(int trialIndex, RingBenchmark benchmark) throws Exception {
+    private static void test(int trialIndex, RingBenchmark benchmark, int tokenCount) throws Exception {
         long startTimeNanos = System.nanoTime();
         int[] sequences = benchmark.ringBenchmark();
-        RingBenchmarkTestUtil.verifyResult(sequences);
+        if (tokenCount == 1) {
+            RingBenchmarkTestUtil.verifyResult(sequences);
+        } else {
+            RingBenchmarkTestUtil.verifyResult(sequences, tokenCount);
+        }
         log("[%d] duration: %s", () -> new Object[]{trialIndex, formatDurationSinceNanos(startTimeNanos)});
     }
 
@@ -44,4 +52,23 @@ enum RingBenchmarkTestUtil {
         } while (workerIndex != completedWorkerIndex && expectedSequence <= MESSAGE_PASSING_COUNT);
     }
 
+    /**
+     * Verifies the minimum sequence received by each worker while the given number of tokens were passed around the ring.
+     */
+    private static void verifyResult(int[] sequences, int tokenCount) {
+        for (int workerIndex = 0; workerIndex < WORKER_COUNT; workerIndex++) {
+            int expectedSequence = Integer.MAX_VALUE;
+            for (int tokenIndex = 0; tokenIndex < tokenCount; tokenIndex++) {
+                int tokenStartIndex = RingTokenHelper.tokenStartIndex(tokenIndex, tokenCount, WORKER_COUNT);
+                int distance = (workerIndex - tokenStartIndex + WORKER_COUNT) % WORKER_COUNT;
+                if (distance <= MESSAGE_PASSING_COUNT) {
+                    expectedSequence = Math.min(expectedSequence, (MESSAGE_PASSING_COUNT - distance) % WORKER_COUNT);
+                }
+            }
+            Assert.assertEquals(
+                    "minimum sequence returned by Worker#" + workerIndex,
+                    expectedSequence, sequences[workerIndex]);
+        }
+    }
+
 }
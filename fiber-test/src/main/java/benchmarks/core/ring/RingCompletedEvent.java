@@ -0,0 +1,25 @@
+package benchmarks.core.ring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Marks the worker holding the exhausted token signalling the completion of the ring.
+ */
+@Name(RingCompletedEvent.NAME)
+@Label("Ring Completed")
+@Description("The token got exhausted and the ring signalled its completion")
+@Category({"Benchmarks", "Ring"})
+@StackTrace(false)
+public final class RingCompletedEvent extends Event {
+
+    public static final String NAME = "benchmarks.ring.Completed";
+
+    @Label("Worker")
+    public int workerId;
+
+}
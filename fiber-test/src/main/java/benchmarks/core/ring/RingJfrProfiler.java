@@ -0,0 +1,139 @@
+package benchmarks.core.ring;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JMH profiler recording the ring events, along with virtual thread pinning and garbage collections, during every
+ * iteration, dumping the recording into {@code ringJfr.outputDirectory}, and summarizing it as secondary results.
+ * <p>
+ * The ring events are only emitted if {@link RingBenchmarkConfig#JFR_EVENTS JFR_EVENTS} is enabled in the forked
+ * JVM, i.e., {@code -Dring.jfrEvents=true} is appended to its arguments, e.g.,
+ * {@code -jvmArgsAppend -Dring.jfrEvents=true -prof benchmarks.core.ring.RingJfrProfiler}.
+ * Every hop emits three events, hence a recording amounts to tens of bytes per hop.
+ */
+public class RingJfrProfiler implements InternalProfiler {
+
+    private static final Path OUTPUT_DIRECTORY = Paths.get(System.getProperty("ringJfr.outputDirectory", "jfr"));
+
+    private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+
+    private static final String GC_EVENT_NAME = "jdk.GarbageCollection";
+
+    private Recording recording;
+
+    private int iterationIndex = 0;
+
+    @Override
+    public String getDescription() {
+        return "Records the ring JFR events of every iteration and summarizes them";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        recording = new Recording();
+        recording.enable(HandoffEvent.NAME);
+        recording.enable(ParkEvent.NAME);
+        recording.enable(WakeEvent.NAME);
+        recording.enable(RingCompletedEvent.NAME);
+        recording.enable(PINNED_EVENT_NAME).withThreshold(Duration.ZERO).withStackTrace();
+        recording.enable(GC_EVENT_NAME);
+        recording.start();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(
+            BenchmarkParams benchmarkParams, IterationParams iterationParams, IterationResult result) {
+        recording.stop();
+        try {
+            Files.createDirectories(OUTPUT_DIRECTORY);
+            String benchmarkName = benchmarkParams.getBenchmark();
+            String simpleName = benchmarkName.substring(benchmarkName.lastIndexOf('.', benchmarkName.lastIndexOf('.') - 1) + 1);
+            Path file = OUTPUT_DIRECTORY.resolve(simpleName + "-" + iterationIndex++ + ".jfr");
+            recording.dump(file);
+            return summarize(file);
+        } catch (IOException error) {
+            throw new UncheckedIOException(error);
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static List<Result> summarize(Path file) throws IOException {
+
+        long handoffCount = 0;
+        long handoffNanos = 0;
+        long parkCount = 0;
+        long parkNanos = 0;
+        long maxParkNanos = 0;
+        long wakeCount = 0;
+        long completionCount = 0;
+        long pinnedCount = 0;
+        long gcCount = 0;
+        long gcNanos = 0;
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                long durationNanos = event.getDuration().toNanos();
+                switch (event.getEventType().getName()) {
+                    case HandoffEvent.NAME:
+                        handoffCount++;
+                        handoffNanos += durationNanos;
+                        break;
+                    case ParkEvent.NAME:
+                        parkCount++;
+                        parkNanos += durationNanos;
+                        maxParkNanos = Math.max(maxParkNanos, durationNanos);
+                        break;
+                    case WakeEvent.NAME:
+                        wakeCount++;
+                        break;
+                    case RingCompletedEvent.NAME:
+                        completionCount++;
+                        break;
+                    case PINNED_EVENT_NAME:
+                        pinnedCount++;
+                        break;
+                    case GC_EVENT_NAME:
+                        gcCount++;
+                        gcNanos += durationNanos;
+                        break;
+                }
+            }
+        }
+
+        List<Result> results = new ArrayList<>();
+        results.add(new ScalarResult("jfr.handoff.count", handoffCount, "#", AggregationPolicy.SUM));
+        results.add(new ScalarResult("jfr.handoff.avg", handoffCount == 0 ? 0 : (double) handoffNanos / handoffCount, "ns", AggregationPolicy.AVG));
+        results.add(new ScalarResult("jfr.park.count", parkCount, "#", AggregationPolicy.SUM));
+        results.add(new ScalarResult("jfr.park.avg", parkCount == 0 ? 0 : (double) parkNanos / parkCount, "ns", AggregationPolicy.AVG));
+        results.add(new ScalarResult("jfr.park.max", maxParkNanos, "ns", AggregationPolicy.MAX));
+        results.add(new ScalarResult("jfr.wake.count", wakeCount, "#", AggregationPolicy.SUM));
+        results.add(new ScalarResult("jfr.completed.count", completionCount, "#", AggregationPolicy.SUM));
+        results.add(new ScalarResult("jfr.pinned.count", pinnedCount, "#", AggregationPolicy.SUM));
+        results.add(new ScalarResult("jfr.gc.count", gcCount, "#", AggregationPolicy.SUM));
+        results.add(new ScalarResult("jfr.gc.time", gcNanos, "ns", AggregationPolicy.SUM));
+        return results;
+
+    }
+
+}
@@ -0,0 +1,12 @@
+package benchmarks.core.ring;
+
+public enum RingTokenHelper {;
+
+    /**
+     * @return the index of the worker the given token is injected to, such that tokens are evenly spaced around the ring
+     */
+    public static int tokenStartIndex(int tokenIndex, int tokenCount, int workerCount) {
+        return (int) ((long) tokenIndex * workerCount / tokenCount);
+    }
+
+}
@@ -0,0 +1,18 @@
+package benchmarks.core.ring;
+
+/**
+ * Placement of the carrier threads of {@link RingBenchmarkConfig#SHARD_COUNT} independent rings.
+ */
+public enum ShardScheduling {
+
+    /**
+     * All shards share a single scheduler, i.e., contend for the same carriers.
+     */
+    SHARED,
+
+    /**
+     * Every shard owns a scheduler of its own, i.e., shards contend for cores only.
+     */
+    PER_SHARD
+
+}
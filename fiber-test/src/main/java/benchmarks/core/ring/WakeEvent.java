@@ -0,0 +1,28 @@
+package benchmarks.core.ring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Marks a worker taking over the token.
+ */
+@Name(WakeEvent.NAME)
+@Label("Ring Wake-up")
+@Description("A worker taking over the token")
+@Category({"Benchmarks", "Ring"})
+@StackTrace(false)
+public final class WakeEvent extends Event {
+
+    public static final String NAME = "benchmarks.ring.Wake";
+
+    @Label("Worker")
+    public int workerId;
+
+    @Label("Sequence")
+    public int sequence;
+
+}
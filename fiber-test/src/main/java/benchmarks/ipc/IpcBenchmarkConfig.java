@@ -0,0 +1,24 @@
+package benchmarks.ipc;
+
+import benchmarks.core.PropertyHelper;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public enum IpcBenchmarkConfig {;
+
+    public static final int PROCESS_COUNT = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("ipc.processCount", "2", 1);
+
+    public static final SegmentTransport.Kind TRANSPORT = PropertyHelper.readEnumProperty("ipc.transport", "UNIX", SegmentTransport.Kind.class);
+
+    public static final SegmentTransport.IoMode IO_MODE = PropertyHelper.readEnumProperty("ipc.ioMode", "BLOCKING", SegmentTransport.IoMode.class);
+
+    public static final Path SHARED_MEMORY_DIRECTORY = Paths.get(System.getProperty("ipc.sharedMemoryDirectory", "/dev/shm"));
+
+    public static final int SPIN_COUNT = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("ipc.spinCount", "1000", 0);
+
+    public static final int PARK_NANOS = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("ipc.parkNanos", "10000", 1);
+
+    public static final boolean VIRTUAL = PropertyHelper.readBooleanProperty("ipc.virtual", "true");
+
+}
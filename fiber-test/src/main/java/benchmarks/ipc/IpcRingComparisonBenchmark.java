@@ -0,0 +1,112 @@
+package benchmarks.ipc;
+
+import benchmarks.JavaThreadRingBenchmark;
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Compares a ring split across processes by every {@link SegmentTransport.Kind} against the very same
+ * {@link RingSegment} workers in a single process, all running on platform threads with blocking inbound reads.
+ * <p>
+ * The score is the average time of a ring traversal, i.e., {@code messagePassingCount} hops, where only
+ * {@code processCount} hops cross a process boundary per lap of the ring. Hence, the cost of crossing a process
+ * boundary is roughly {@code (score - singleProcessScore) * workerCount / (messagePassingCount * processCount)},
+ * neglecting the collection lap. {@link JavaThreadRingBenchmark} is included for reference only, as its lock and
+ * condition hand-off differs from the {@link benchmarks.core.IntChannel IntChannel} hand-off of the segments.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IpcRingComparisonBenchmark {
+
+    public enum Engine {
+
+        SINGLE_PROCESS,
+
+        TCP,
+
+        UNIX,
+
+        SHARED_MEMORY,
+
+        THREAD_RING
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class RingState {
+
+        @Param({"SINGLE_PROCESS", "TCP", "UNIX", "SHARED_MEMORY", "THREAD_RING"})
+        Engine engine;
+
+        @Param({"2"})
+        int processCount;
+
+        @Param({"60"})
+        int workerCount;
+
+        @Param({"6000"})
+        int messagePassingCount;
+
+        RingBenchmark benchmark;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            switch (engine) {
+                case SINGLE_PROCESS:
+                    // The transport is never connected by a single segment.
+                    benchmark = new JavaMultiProcessRingBenchmark(
+                            workerCount, messagePassingCount, 1,
+                            SegmentTransport.Kind.UNIX, SegmentTransport.IoMode.BLOCKING, false);
+                    break;
+                case THREAD_RING:
+                    benchmark = new JavaThreadRingBenchmark(workerCount, messagePassingCount);
+                    break;
+                default:
+                    benchmark = new JavaMultiProcessRingBenchmark(
+                            workerCount, messagePassingCount, processCount,
+                            SegmentTransport.Kind.valueOf(engine.name()), SegmentTransport.IoMode.BLOCKING, false);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            benchmark.close();
+        }
+
+    }
+
+    @Benchmark
+    public int[] ringBenchmark(RingState state) throws Exception {
+        return state.benchmark.ringBenchmark();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(IpcRingComparisonBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .resultFormat(ResultFormatType.JSON)
+                .result("IpcRingComparison_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,356 @@
+package benchmarks.ipc;
+
+import benchmarks.core.ring.RingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.core.ring.RingBenchmarkConfig.MESSAGE_PASSING_COUNT;
+import static benchmarks.core.ring.RingBenchmarkConfig.WORKER_COUNT;
+import static benchmarks.ipc.IpcBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Ring benchmark split across {@link IpcBenchmarkConfig#PROCESS_COUNT PROCESS_COUNT} local JVM processes, where every
+ * process hosts a {@link RingSegment} of Java {@link Thread}s and segment boundaries forward the token over
+ * {@link java.nio.channels.SocketChannel SocketChannel}s or shared memory, see {@link SegmentTransport}.
+ * <p>
+ * The benchmark process hosts segment 0 and launches the rest as {@link RingSegmentProcess} children sharing its
+ * class path. Sequences are collected by an additional lap around the segments after the completion, hence every
+ * invocation includes up to {@code 2 * PROCESS_COUNT} extra socket hops on top of the ones carrying the token.
+ */
+@State(Scope.Benchmark)
+public class JavaMultiProcessRingBenchmark implements RingBenchmark {
+
+    private static final long CHILD_REPLY_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Queued once the output of the child ends, which a child never replies by itself.
+     */
+    private static final String EXITED_REPLY = "exited";
+
+    private static final class Child {
+
+        private final Process process;
+
+        private final Writer writer;
+
+        private final BlockingQueue<String> replies = new LinkedBlockingQueue<>();
+
+        private final Thread drainerThread;
+
+        private Child(int segmentIndex, List<String> command) throws IOException {
+            this.process = new ProcessBuilder(command)
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start();
+            this.writer = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8);
+            this.drainerThread = Thread.ofPlatform().daemon(true).name("Drainer-" + segmentIndex).start(this::drain);
+        }
+
+        /**
+         * Queues the replies and echoes the rest, i.e., the logs of the child.
+         */
+        private void drain() {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                for (String line; (line = reader.readLine()) != null; ) {
+                    if (line.startsWith(RingSegmentProcess.REPLY_PREFIX)) {
+                        replies.add(line.substring(RingSegmentProcess.REPLY_PREFIX.length()));
+                    } else {
+                        System.out.println(line);
+                    }
+                }
+            } catch (IOException error) {
+                log("child output read failure: %s", error.getMessage());
+            }
+            replies.add(EXITED_REPLY);
+        }
+
+        private String awaitReply(String expectedPrefix) throws InterruptedException {
+            String reply = replies.poll(CHILD_REPLY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (reply == null || !reply.startsWith(expectedPrefix)) {
+                throw new IllegalStateException("unexpected child reply: " + reply);
+            }
+            return reply.substring(expectedPrefix.length());
+        }
+
+        private void send(String command) throws IOException {
+            writer.write(command);
+            writer.write('\n');
+            writer.flush();
+        }
+
+        /**
+         * Closes the standard input of the child, which shuts it down.
+         */
+        @Nullable
+        private Exception closeInput() {
+            try {
+                writer.close();
+                return null;
+            } catch (IOException error) {
+                return error;
+            }
+        }
+
+        @Nullable
+        private Exception awaitExit() {
+            Exception failure = null;
+            try {
+                if (!process.waitFor(CHILD_REPLY_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    log("destroying unresponsive child (pid=%s)", process.pid());
+                    process.destroyForcibly().waitFor();
+                }
+            } catch (InterruptedException error) {
+                failure = error;
+                process.destroyForcibly();
+            }
+            try {
+                drainerThread.join();
+            } catch (InterruptedException error) {
+                failure = collect(failure, error);
+            }
+            return failure;
+        }
+
+    }
+
+    private final int messagePassingCount;
+
+    private final Path endpointDirectory;
+
+    private final SegmentTransport transport;
+
+    private final RingSegment segment;
+
+    private final List<Child> children = new ArrayList<>();
+
+    private volatile boolean connected = false;
+
+    private volatile boolean closing = false;
+
+    public JavaMultiProcessRingBenchmark() throws Exception {
+        this(WORKER_COUNT, MESSAGE_PASSING_COUNT, PROCESS_COUNT, TRANSPORT, IO_MODE, VIRTUAL);
+    }
+
+    public JavaMultiProcessRingBenchmark(
+            int workerCount,
+            int messagePassingCount,
+            int processCount,
+            SegmentTransport.Kind transportKind,
+            SegmentTransport.IoMode ioMode,
+            boolean virtual) throws Exception {
+
+        if (processCount > workerCount) {
+            throw new IllegalArgumentException("process count exceeds worker count: " + processCount + " > " + workerCount);
+        }
+        this.messagePassingCount = messagePassingCount;
+        this.endpointDirectory = transportKind == SegmentTransport.Kind.SHARED_MEMORY && Files.isDirectory(SHARED_MEMORY_DIRECTORY)
+                ? Files.createTempDirectory(SHARED_MEMORY_DIRECTORY, "ring")
+                : Files.createTempDirectory("ring");
+        this.transport = SegmentTransport.create(transportKind, ioMode, RingSegmentProcess.threadBuilder(virtual), endpointDirectory);
+        this.segment = new RingSegment(0, processCount, 0, workerCount / processCount, workerCount, RingSegmentProcess.threadCreator(virtual));
+        if (processCount == 1) {
+            return;
+        }
+        try {
+            launchChildren(workerCount, processCount, transportKind, ioMode, virtual);
+        } catch (Throwable error) {
+            try {
+                closeResources();
+            } catch (Exception closeError) {
+                error.addSuppressed(closeError);
+            }
+            throw error;
+        }
+
+    }
+
+    private void launchChildren(
+            int workerCount,
+            int processCount,
+            SegmentTransport.Kind transportKind,
+            SegmentTransport.IoMode ioMode,
+            boolean virtual) throws Exception {
+
+        List<String> endpoints = new ArrayList<>();
+        endpoints.add(transport.bind(0));
+
+        log("launching children (processCount=%d)", processCount);
+        Path javaPath = Path.of(System.getProperty("java.home"), "bin", "java");
+        for (int segmentIndex = 1; segmentIndex < processCount; segmentIndex++) {
+            int firstWorkerIndex = segmentIndex * workerCount / processCount;
+            int lastWorkerIndex = (segmentIndex + 1) * workerCount / processCount;
+            List<String> command = List.of(
+                    javaPath.toString(),
+                    "-cp", System.getProperty("java.class.path"),
+                    "-DstdoutLogger.enabled=" + System.getProperty("stdoutLogger.enabled", "false"),
+                    "-DstdoutLogger.async=" + System.getProperty("stdoutLogger.async", "false"),
+                    "-Dipc.spinCount=" + SPIN_COUNT,
+                    "-Dipc.parkNanos=" + PARK_NANOS,
+                    RingSegmentProcess.class.getName(),
+                    String.valueOf(segmentIndex),
+                    String.valueOf(processCount),
+                    String.valueOf(firstWorkerIndex),
+                    String.valueOf(lastWorkerIndex - firstWorkerIndex),
+                    String.valueOf(workerCount),
+                    transportKind.name(),
+                    ioMode.name(),
+                    String.valueOf(virtual),
+                    endpointDirectory.toString());
+            Child child = new Child(segmentIndex, command);
+            children.add(child);
+            int finalSegmentIndex = segmentIndex;
+            child.process.onExit().thenAccept(process -> childExited(finalSegmentIndex, process.exitValue()));
+        }
+
+        log("waiting for children to listen");
+        for (Child child : children) {
+            endpoints.add(child.awaitReply(RingSegmentProcess.LISTENING_REPLY));
+        }
+        log("connecting segments (endpoints=%s)", endpoints);
+        for (int childIndex = 0; childIndex < children.size(); childIndex++) {
+            int segmentIndex = childIndex + 1;
+            children.get(childIndex).send(RingSegmentProcess.CONNECT_COMMAND + endpoints.get((segmentIndex + 1) % processCount));
+        }
+        segment.connect(transport, endpoints.get(1));
+
+        log("waiting for children to get ready");
+        for (Child child : children) {
+            child.awaitReply(RingSegmentProcess.READY_REPLY);
+        }
+        connected = true;
+
+    }
+
+    /**
+     * Breaks the ring if a child exits before {@link #close()}, since the token would be lost otherwise.
+     */
+    private void childExited(int segmentIndex, int exitValue) {
+        if (closing) {
+            return;
+        }
+        segment.fail(new IllegalStateException("child exited (segmentIndex=" + segmentIndex + ", exitValue=" + exitValue + ")"));
+        if (!connected) {
+            // Unblocks segment 0 accepting the connection of the exited child, if any.
+            try {
+                transport.close();
+            } catch (Exception error) {
+                log("transport close failure: %s", error);
+            }
+        }
+    }
+
+    @Override
+    @TearDown
+    public void close() throws Exception {
+        closeResources();
+    }
+
+    /**
+     * Not overridable, since it is also called by the constructor on failure.
+     */
+    /**
+     * Closes every resource even if closing another one fails, and throws the first failure, if any, with the rest
+     * suppressed.
+     */
+    private void closeResources() throws Exception {
+        closing = true;
+        segment.markClosing();
+        Exception failure = null;
+        log("closing children");
+        for (Child child : children) {
+            failure = collect(failure, child.closeInput());
+        }
+        for (Child child : children) {
+            failure = collect(failure, child.awaitExit());
+        }
+        try {
+            segment.close();
+        } catch (Exception error) {
+            failure = collect(failure, error);
+        }
+        try {
+            transport.close();
+        } catch (Exception error) {
+            failure = collect(failure, error);
+        }
+        // Endpoints of forcibly destroyed children are left behind.
+        try (Stream<Path> paths = Files.list(endpointDirectory)) {
+            for (Path path : paths.toList()) {
+                Files.deleteIfExists(path);
+            }
+            Files.deleteIfExists(endpointDirectory);
+        } catch (IOException error) {
+            failure = collect(failure, error);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * @return the given failure with the given error suppressed, or the error if there is no failure yet
+     */
+    @Nullable
+    private static Exception collect(@Nullable Exception failure, @Nullable Exception error) {
+        if (failure == null) {
+            return error;
+        }
+        if (error != null) {
+            failure.addSuppressed(error);
+        }
+        return failure;
+    }
+
+    @Override
+    @Benchmark
+    public int[] ringBenchmark() {
+        int[] sequences = segment.call(messagePassingCount);
+        log("returning populated sequences (sequences=%s)", () -> new Object[]{Arrays.toString(sequences)});
+        return sequences;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaMultiProcessRingBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .jvmArgsAppend(
+                        "-Dipc.processCount=" + PROCESS_COUNT,
+                        "-Dipc.transport=" + TRANSPORT,
+                        "-Dipc.ioMode=" + IO_MODE,
+                        "-Dipc.spinCount=" + SPIN_COUNT,
+                        "-Dipc.parkNanos=" + PARK_NANOS,
+                        "-Dipc.sharedMemoryDirectory=" + SHARED_MEMORY_DIRECTORY,
+                        "-Dipc.virtual=" + VIRTUAL)
+                .resultFormat(ResultFormatType.JSON)
+                .result("MultiProcessRealization" + TRANSPORT + IO_MODE + PROCESS_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
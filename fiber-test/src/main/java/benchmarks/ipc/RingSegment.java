@@ -0,0 +1,331 @@
+package benchmarks.ipc;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.IntChannel;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BiFunction;
+
+import static benchmarks.core.StdoutLogger.log;
+
+/**
+ * Contiguous range of ring workers hosted by a single process, where the last worker forwards the token to the first
+ * worker of the next segment over a {@link SegmentLink}, and the first worker is fed by the previous segment.
+ * <p>
+ * Non-negative messages are tokens carrying the sequence. Once the sequence is exhausted, a {@link #COMPLETED}
+ * message travels to segment 0, which then sends a {@link #COLLECT} message around the ring, followed by the number
+ * of sequences and the sequences themselves: every segment appends the sequences of its workers, hence segment 0
+ * receives the sequences of all workers in ring order.
+ * <p>
+ * A failure of the links, either detected by the segment itself or reported via {@link #fail(Throwable)}, breaks the
+ * ring for good: the pending and every later {@link #call(int)} fail rather than waiting for a lost token.
+ */
+final class RingSegment implements AutoCloseable {
+
+    static final int COMPLETED = -1;
+
+    static final int COLLECT = -2;
+
+    private static final int COLLECT_HEADER_LENGTH = 2;
+
+    private final class Worker implements Runnable {
+
+        private final IntChannel inbox = new IntChannel(1);
+
+        private final int id;
+
+        private final CountDownLatch startLatch;
+
+        @Nullable
+        private Worker next = null;
+
+        /**
+         * Last sequence taken from the {@link #inbox}, read by the collection.
+         */
+        private volatile int sequence;
+
+        private Worker(int id, CountDownLatch startLatch) {
+            this.id = id;
+            this.startLatch = startLatch;
+        }
+
+        @Override
+        public void run() {
+            startLatch.countDown();
+            try {
+                // noinspection InfiniteLoopStatement
+                for (; ; ) {
+                    log("[%2d] taking", id);
+                    int sequence = inbox.take();
+                    this.sequence = sequence;
+                    if (sequence <= 0) {
+                        log("[%2d] completed", id);
+                        complete();
+                    } else if (next != null) {
+                        log("[%2d] putting next", id);
+                        next.inbox.put(sequence - 1);
+                    } else {
+                        log("[%2d] sending next", id);
+                        send(sequence - 1);
+                    }
+                }
+            } catch (InterruptedException ignored) {
+                log("[%2d] interrupted", id);
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+    private final CompletionBarrier completionBarrier = new CompletionBarrier();
+
+    private final int segmentIndex;
+
+    private final int segmentCount;
+
+    private final Worker[] workers;
+
+    private final Thread[] threads;
+
+    /**
+     * Sequences of all workers in the ring, populated by segment 0 only.
+     */
+    private final int[] sequences;
+
+    /**
+     * Collect message being received, only accessed by the inbound pump.
+     */
+    private final int[] inboundMessages;
+
+    private int inboundLength = 0;
+
+    private int inboundExpectedLength = 0;
+
+    /**
+     * Collect message being sent, which is sent either by a worker or by the inbound pump, but never concurrently.
+     */
+    private final int[] outboundMessages;
+
+    @Nullable
+    private SegmentLink link = null;
+
+    @Nullable
+    private volatile Throwable failure = null;
+
+    private volatile boolean closing = false;
+
+    RingSegment(
+            int segmentIndex,
+            int segmentCount,
+            int firstWorkerIndex,
+            int workerCount,
+            int totalWorkerCount,
+            BiFunction<String, Runnable, Thread> threadCreator) {
+
+        this.segmentIndex = segmentIndex;
+        this.segmentCount = segmentCount;
+        this.sequences = new int[totalWorkerCount];
+        this.inboundMessages = new int[COLLECT_HEADER_LENGTH + totalWorkerCount];
+        this.outboundMessages = new int[COLLECT_HEADER_LENGTH + totalWorkerCount];
+
+        log("creating workers (segmentIndex=%d, workerCount=%d)", segmentIndex, workerCount);
+        this.workers = new Worker[workerCount];
+        this.threads = new Thread[workerCount];
+        CountDownLatch startLatch = new CountDownLatch(workerCount);
+        for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+            Worker worker = new Worker(firstWorkerIndex + workerIndex, startLatch);
+            workers[workerIndex] = worker;
+            threads[workerIndex] = threadCreator.apply("Worker-" + worker.id, worker);
+        }
+
+        log("setting next worker pointers");
+        for (int workerIndex = 0; workerIndex < workerCount - 1; workerIndex++) {
+            workers[workerIndex].next = workers[workerIndex + 1];
+        }
+        if (segmentCount == 1) {
+            workers[workerCount - 1].next = workers[0];
+        }
+
+        log("starting threads");
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        log("waiting for threads to start");
+        try {
+            startLatch.await();
+        } catch (InterruptedException ignored) {
+            log("start latch wait interrupted");
+            Thread.currentThread().interrupt();
+        }
+
+    }
+
+    /**
+     * Connects the segment to its neighbours, which is a no-op for a single segment.
+     */
+    void connect(SegmentTransport transport, String nextEndpoint) throws IOException {
+        link = transport.connect(nextEndpoint, this::receive, this::fail);
+    }
+
+    /**
+     * Records the first failure and wakes up a pending {@link #call(int)}.
+     */
+    void fail(Throwable error) {
+        if (failure == null) {
+            failure = error;
+            if (!closing) {
+                log("ring failed: %s", error);
+            }
+            completionBarrier.signal();
+        }
+    }
+
+    /**
+     * Marks the ring as being torn down, hence the link failures caused by closing its segments are not logged.
+     */
+    void markClosing() {
+        closing = true;
+    }
+
+    private void send(int message) {
+        try {
+            // noinspection DataFlowIssue
+            link.send(message);
+        } catch (IOException error) {
+            fail(error);
+        }
+    }
+
+    private void send(int[] messages, int length) {
+        try {
+            // noinspection DataFlowIssue
+            link.send(messages, length);
+        } catch (IOException error) {
+            fail(error);
+        }
+    }
+
+    private void complete() {
+        if (segmentIndex != 0) {
+            send(COMPLETED);
+        } else if (segmentCount == 1) {
+            appendSequences(sequences, 0);
+            completionBarrier.signal();
+        } else {
+            startCollection();
+        }
+    }
+
+    private void startCollection() {
+        log("starting collection");
+        outboundMessages[0] = COLLECT;
+        outboundMessages[1] = workers.length;
+        appendSequences(outboundMessages, COLLECT_HEADER_LENGTH);
+        send(outboundMessages, COLLECT_HEADER_LENGTH + workers.length);
+    }
+
+    private void appendSequences(int[] messages, int offset) {
+        for (int workerIndex = 0; workerIndex < workers.length; workerIndex++) {
+            messages[offset + workerIndex] = workers[workerIndex].sequence;
+        }
+    }
+
+    /**
+     * Handles a message of the previous segment on the inbound pump thread.
+     */
+    private void receive(int message) {
+        if (inboundExpectedLength > 0) {
+            inboundMessages[inboundLength++] = message;
+            if (inboundLength == COLLECT_HEADER_LENGTH) {
+                inboundExpectedLength = COLLECT_HEADER_LENGTH + message;
+            }
+            if (inboundLength == inboundExpectedLength) {
+                inboundExpectedLength = 0;
+                collect();
+            }
+        } else if (message == COLLECT) {
+            inboundMessages[0] = message;
+            inboundLength = 1;
+            inboundExpectedLength = COLLECT_HEADER_LENGTH;
+        } else if (message == COMPLETED) {
+            if (segmentIndex == 0) {
+                startCollection();
+            } else {
+                send(COMPLETED);
+            }
+        } else {
+            try {
+                workers[0].inbox.put(message);
+            } catch (InterruptedException ignored) {
+                log("inbound put interrupted");
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void collect() {
+        int sequenceCount = inboundMessages[1];
+        if (segmentIndex == 0) {
+            log("collected sequences (sequenceCount=%d)", sequenceCount);
+            System.arraycopy(inboundMessages, COLLECT_HEADER_LENGTH, sequences, 0, sequenceCount);
+            completionBarrier.signal();
+        } else {
+            System.arraycopy(inboundMessages, 0, outboundMessages, 0, inboundLength);
+            outboundMessages[1] = sequenceCount + workers.length;
+            appendSequences(outboundMessages, inboundLength);
+            send(outboundMessages, inboundLength + workers.length);
+        }
+    }
+
+    /**
+     * Passes the token around the entire ring, only to be called on segment 0.
+     *
+     * @return the sequences of all workers in the ring
+     */
+    int[] call(int messagePassingCount) {
+
+        int generation = completionBarrier.generation();
+        checkFailure();
+        log("initiating the ring (messagePassingCount=%d)", messagePassingCount);
+        try {
+            workers[0].inbox.put(messagePassingCount);
+        } catch (InterruptedException ignored) {
+            log("ring initiation interrupted");
+            Thread.currentThread().interrupt();
+            return sequences;
+        }
+
+        log("waiting for completion");
+        completionBarrier.awaitAdvance(generation);
+        checkFailure();
+        return sequences;
+
+    }
+
+    private void checkFailure() {
+        Throwable error = failure;
+        if (error != null) {
+            throw new IllegalStateException("ring failed", error);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+
+        markClosing();
+        log("interrupting threads");
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+
+        log("waiting for threads to complete");
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+    }
+
+}
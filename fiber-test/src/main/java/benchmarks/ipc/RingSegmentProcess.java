@@ -0,0 +1,90 @@
+package benchmarks.ipc;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.function.BiFunction;
+
+import static benchmarks.core.StdoutLogger.log;
+
+/**
+ * Entry point of a child process hosting a {@link RingSegment} of {@link JavaMultiProcessRingBenchmark}.
+ * <p>
+ * The coordinator drives the child by lines over its standard input and the child replies with lines prefixed by
+ * {@link #REPLY_PREFIX} over its standard output, which is shared with the logs:
+ * <ol>
+ * <li>child replies {@code listening <endpoint>} once the inbound endpoint is bound,</li>
+ * <li>coordinator sends {@code connect <nextEndpoint>},</li>
+ * <li>child replies {@code ready} once connected to both neighbours,</li>
+ * <li>coordinator closes the standard input to shut the child down.</li>
+ * </ol>
+ */
+public enum RingSegmentProcess {;
+
+    static final String REPLY_PREFIX = "ipc:";
+
+    static final String LISTENING_REPLY = "listening ";
+
+    static final String CONNECT_COMMAND = "connect ";
+
+    static final String READY_REPLY = "ready";
+
+    static BiFunction<String, Runnable, Thread> threadCreator(boolean virtual) {
+        return virtual
+                ? (threadName, task) -> Thread.ofVirtual().name(threadName).unstarted(task)
+                : (threadName, task) -> new Thread(task, threadName);
+    }
+
+    static Thread.Builder threadBuilder(boolean virtual) {
+        return virtual ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        if (args.length != 9) {
+            System.err.println("usage: RingSegmentProcess <segmentIndex> <segmentCount> <firstWorkerIndex> <workerCount> " +
+                    "<totalWorkerCount> <transport> <ioMode> <virtual> <endpointDirectory>");
+            System.exit(2);
+        }
+        int segmentIndex = Integer.parseInt(args[0]);
+        int segmentCount = Integer.parseInt(args[1]);
+        int firstWorkerIndex = Integer.parseInt(args[2]);
+        int workerCount = Integer.parseInt(args[3]);
+        int totalWorkerCount = Integer.parseInt(args[4]);
+        SegmentTransport.Kind transportKind = SegmentTransport.Kind.valueOf(args[5]);
+        SegmentTransport.IoMode ioMode = SegmentTransport.IoMode.valueOf(args[6]);
+        boolean virtual = Boolean.parseBoolean(args[7]);
+        Path endpointDirectory = Path.of(args[8]);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        try (SegmentTransport transport = SegmentTransport.create(transportKind, ioMode, threadBuilder(virtual), endpointDirectory);
+             RingSegment segment = new RingSegment(segmentIndex, segmentCount, firstWorkerIndex, workerCount, totalWorkerCount, threadCreator(virtual))) {
+
+            String endpoint = transport.bind(segmentIndex);
+            reply(LISTENING_REPLY + endpoint);
+
+            String command = reader.readLine();
+            if (command == null || !command.startsWith(CONNECT_COMMAND)) {
+                throw new IllegalStateException("unexpected command: " + command);
+            }
+            segment.connect(transport, command.substring(CONNECT_COMMAND.length()));
+            reply(READY_REPLY);
+
+            log("waiting for the standard input to close");
+            // noinspection StatementWithEmptyBody
+            while (reader.readLine() != null) {
+            }
+            segment.markClosing();
+
+        }
+        log("closed");
+
+    }
+
+    private static void reply(String reply) {
+        System.out.println(REPLY_PREFIX + reply);
+        System.out.flush();
+    }
+
+}
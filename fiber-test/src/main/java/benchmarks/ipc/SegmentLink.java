@@ -0,0 +1,17 @@
+package benchmarks.ipc;
+
+import java.io.IOException;
+
+/**
+ * Outbound link of a {@link RingSegment} to the next segment, carrying {@code int} messages.
+ * <p>
+ * Only one message is in flight on a ring at a time, still, implementations must tolerate sends from different
+ * threads, e.g., a worker forwarding the token and an inbound pump relaying the completion.
+ */
+interface SegmentLink {
+
+    void send(int message) throws IOException;
+
+    void send(int[] messages, int length) throws IOException;
+
+}
@@ -0,0 +1,76 @@
+package benchmarks.ipc;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Connects a {@link RingSegment} to its neighbours in other processes: the inbound endpoint is bound first and
+ * described as a string, which is passed to the previous segment, and then the outbound link is connected to the
+ * endpoint of the next segment, after which inbound messages are pumped to a receiver.
+ */
+interface SegmentTransport extends AutoCloseable {
+
+    enum Kind {
+
+        /**
+         * Loopback TCP sockets.
+         */
+        TCP,
+
+        /**
+         * Unix domain sockets.
+         */
+        UNIX,
+
+        /**
+         * Memory-mapped files, see {@link SharedMemorySegmentTransport}.
+         */
+        SHARED_MEMORY
+
+    }
+
+    /**
+     * Ignored by {@link Kind#SHARED_MEMORY SHARED_MEMORY}.
+     */
+    enum IoMode {
+
+        /**
+         * Inbound messages are read by a dedicated thread blocking in {@link java.nio.channels.SocketChannel#read},
+         * which is a virtual thread unless {@link IpcBenchmarkConfig#VIRTUAL VIRTUAL} is disabled.
+         */
+        BLOCKING,
+
+        /**
+         * Inbound messages are read by a platform thread multiplexing a non-blocking channel via a
+         * {@link java.nio.channels.Selector}.
+         */
+        SELECTOR
+
+    }
+
+    static SegmentTransport create(Kind kind, IoMode ioMode, Thread.Builder threadBuilder, Path directory) {
+        return kind == Kind.SHARED_MEMORY
+                ? new SharedMemorySegmentTransport(threadBuilder, directory)
+                : new SocketSegmentTransport(kind, ioMode, threadBuilder, directory);
+    }
+
+    /**
+     * @return the description of the bound inbound endpoint
+     */
+    String bind(int segmentIndex) throws IOException;
+
+    /**
+     * Connects to the inbound endpoint of the next segment, accepts the connection of the previous segment,
+     * and starts pumping inbound messages to the given receiver.
+     *
+     * @param failureHandler notified on the pump thread if the inbound link fails or gets closed by the previous
+     *                       segment before the transport is closed
+     */
+    SegmentLink connect(String nextEndpoint, IntConsumer receiver, Consumer<IOException> failureHandler) throws IOException;
+
+    @Override
+    void close() throws IOException, InterruptedException;
+
+}
@@ -0,0 +1,188 @@
+package benchmarks.ipc;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.ipc.IpcBenchmarkConfig.PARK_NANOS;
+import static benchmarks.ipc.IpcBenchmarkConfig.SPIN_COUNT;
+
+/**
+ * {@link SegmentTransport} over a memory-mapped file per segment, which is meant to reside in a {@code tmpfs}
+ * such as {@code /dev/shm}, see {@link IpcBenchmarkConfig#SHARED_MEMORY_DIRECTORY SHARED_MEMORY_DIRECTORY}.
+ * <p>
+ * The file of a segment holds a single-producer single-consumer ring buffer of {@code int}s, which is written by the
+ * previous segment and read by the owner. Producer and consumer indices are published with release and read with
+ * acquire semantics, hence messages are written in place and neither side enters the kernel as long as the other
+ * keeps up. Since a thread of another process cannot be unparked, a waiting side spins for
+ * {@link IpcBenchmarkConfig#SPIN_COUNT SPIN_COUNT} rounds and then polls in timed parks of
+ * {@link IpcBenchmarkConfig#PARK_NANOS PARK_NANOS}, which bounds the wake-up latency of an idle segment.
+ * <p>
+ * The inbound pump is created by the given {@link Thread.Builder} regardless of the {@link SegmentTransport.IoMode},
+ * as there is no I/O to block on or to select. For the same reason, a vanished peer goes unnoticed by the transport,
+ * hence the failure handler is never notified, and it is up to the owner of the processes to detect their exit.
+ */
+final class SharedMemorySegmentTransport implements SegmentTransport {
+
+    private static final VarHandle INDEX = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private static final int PRODUCER_INDEX_OFFSET = 0;
+
+    /**
+     * Keeps the indices two cache lines apart to rule out false sharing, also under adjacent line prefetching.
+     */
+    private static final int CONSUMER_INDEX_OFFSET = 128;
+
+    private static final int ITEMS_OFFSET = 256;
+
+    private static final int CAPACITY = 4096;
+
+    private static final int MASK = CAPACITY - 1;
+
+    private static final int FILE_SIZE = ITEMS_OFFSET + CAPACITY * Integer.BYTES;
+
+    private final Thread.Builder threadBuilder;
+
+    private final Path directory;
+
+    @Nullable
+    private Path file;
+
+    @Nullable
+    private MappedByteBuffer inbound;
+
+    @Nullable
+    private Thread pumpThread;
+
+    private volatile boolean closed = false;
+
+    SharedMemorySegmentTransport(Thread.Builder threadBuilder, Path directory) {
+        this.threadBuilder = threadBuilder;
+        this.directory = directory;
+    }
+
+    private static MappedByteBuffer map(Path file, StandardOpenOption... extraOptions) throws IOException {
+        StandardOpenOption[] options = new StandardOpenOption[extraOptions.length + 2];
+        options[0] = StandardOpenOption.READ;
+        options[1] = StandardOpenOption.WRITE;
+        System.arraycopy(extraOptions, 0, options, 2, extraOptions.length);
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+            buffer.order(ByteOrder.nativeOrder());
+            return buffer;
+        }
+    }
+
+    private static int idle(int idleCount) {
+        if (idleCount < SPIN_COUNT) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return idleCount + 1;
+    }
+
+    @Override
+    public String bind(int segmentIndex) throws IOException {
+        file = directory.resolve("segment-" + segmentIndex + ".shm");
+        inbound = map(file, StandardOpenOption.CREATE_NEW);
+        return file.toString();
+    }
+
+    @Override
+    public SegmentLink connect(String nextEndpoint, IntConsumer receiver, Consumer<IOException> failureHandler) throws IOException {
+        if (inbound == null) {
+            throw new IllegalStateException("not bound");
+        }
+        log("mapping (nextEndpoint=%s)", nextEndpoint);
+        Link link = new Link(map(Path.of(nextEndpoint)));
+        MappedByteBuffer buffer = inbound;
+        pumpThread = threadBuilder.name("Pump").start(() -> pump(buffer, receiver));
+        return link;
+    }
+
+    private void pump(MappedByteBuffer buffer, IntConsumer receiver) {
+        long consumerIndex = (long) INDEX.getAcquire(buffer, CONSUMER_INDEX_OFFSET);
+        int idleCount = 0;
+        while (!closed) {
+            long producerIndex = (long) INDEX.getAcquire(buffer, PRODUCER_INDEX_OFFSET);
+            if (producerIndex == consumerIndex) {
+                idleCount = idle(idleCount);
+                continue;
+            }
+            idleCount = 0;
+            for (; consumerIndex < producerIndex; consumerIndex++) {
+                receiver.accept(buffer.getInt(ITEMS_OFFSET + ((int) consumerIndex & MASK) * Integer.BYTES));
+            }
+            INDEX.setRelease(buffer, CONSUMER_INDEX_OFFSET, consumerIndex);
+        }
+        log("inbound closed");
+    }
+
+    private static final class Link implements SegmentLink {
+
+        private final MappedByteBuffer buffer;
+
+        private long producerIndex;
+
+        private Link(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+            this.producerIndex = (long) INDEX.getAcquire(buffer, PRODUCER_INDEX_OFFSET);
+        }
+
+        @Override
+        public synchronized void send(int message) {
+            awaitCapacity();
+            put(message);
+            INDEX.setRelease(buffer, PRODUCER_INDEX_OFFSET, producerIndex);
+        }
+
+        @Override
+        public synchronized void send(int[] messages, int length) {
+            for (int messageIndex = 0; messageIndex < length; messageIndex++) {
+                if (producerIndex - (long) INDEX.getAcquire(buffer, CONSUMER_INDEX_OFFSET) > MASK) {
+                    INDEX.setRelease(buffer, PRODUCER_INDEX_OFFSET, producerIndex);
+                    awaitCapacity();
+                }
+                put(messages[messageIndex]);
+            }
+            INDEX.setRelease(buffer, PRODUCER_INDEX_OFFSET, producerIndex);
+        }
+
+        private void awaitCapacity() {
+            int idleCount = 0;
+            while (producerIndex - (long) INDEX.getAcquire(buffer, CONSUMER_INDEX_OFFSET) > MASK) {
+                idleCount = idle(idleCount);
+            }
+        }
+
+        private void put(int message) {
+            buffer.putInt(ITEMS_OFFSET + ((int) producerIndex & MASK) * Integer.BYTES, message);
+            producerIndex++;
+        }
+
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        closed = true;
+        if (pumpThread != null) {
+            pumpThread.join();
+        }
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
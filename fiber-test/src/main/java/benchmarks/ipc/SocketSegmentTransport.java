@@ -0,0 +1,210 @@
+package benchmarks.ipc;
+
+import javax.annotation.Nullable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import static benchmarks.core.StdoutLogger.log;
+
+/**
+ * {@link SegmentTransport} over loopback TCP or Unix domain {@link SocketChannel}s.
+ * <p>
+ * Outbound writes always block, since a message never exceeds the socket buffer in practice, whereas inbound reads
+ * either block or are driven by a {@link Selector}, see {@link SegmentTransport.IoMode}.
+ */
+final class SocketSegmentTransport implements SegmentTransport {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Kind kind;
+
+    private final IoMode ioMode;
+
+    private final Thread.Builder threadBuilder;
+
+    private final Path directory;
+
+    @Nullable
+    private Path socketFile;
+
+    @Nullable
+    private ServerSocketChannel server;
+
+    @Nullable
+    private SocketChannel inbound;
+
+    @Nullable
+    private SocketChannel outbound;
+
+    @Nullable
+    private Selector selector;
+
+    @Nullable
+    private Thread pumpThread;
+
+    private volatile boolean closed = false;
+
+    SocketSegmentTransport(Kind kind, IoMode ioMode, Thread.Builder threadBuilder, Path directory) {
+        this.kind = kind;
+        this.ioMode = ioMode;
+        this.threadBuilder = threadBuilder;
+        this.directory = directory;
+    }
+
+    @Override
+    public String bind(int segmentIndex) throws IOException {
+        if (kind == Kind.TCP) {
+            server = ServerSocketChannel.open(StandardProtocolFamily.INET);
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            return String.valueOf(((InetSocketAddress) server.getLocalAddress()).getPort());
+        }
+        socketFile = directory.resolve("segment-" + segmentIndex + ".sock");
+        Files.deleteIfExists(socketFile);
+        server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(socketFile));
+        return socketFile.toString();
+    }
+
+    @Override
+    public SegmentLink connect(String nextEndpoint, IntConsumer receiver, Consumer<IOException> failureHandler) throws IOException {
+        if (server == null) {
+            throw new IllegalStateException("not bound");
+        }
+        SocketAddress nextAddress = kind == Kind.TCP
+                ? new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(nextEndpoint))
+                : UnixDomainSocketAddress.of(nextEndpoint);
+        // Connecting ahead of accepting completes via the listen backlog, hence segments cannot deadlock.
+        log("connecting (nextEndpoint=%s)", nextEndpoint);
+        outbound = SocketChannel.open(nextAddress);
+        log("accepting");
+        inbound = server.accept();
+        if (kind == Kind.TCP) {
+            outbound.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            inbound.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        }
+        if (ioMode == IoMode.SELECTOR) {
+            selector = Selector.open();
+            inbound.configureBlocking(false);
+            inbound.register(selector, SelectionKey.OP_READ);
+            pumpThread = Thread.ofPlatform().name("Pump").start(() -> pump(receiver, failureHandler));
+        } else {
+            pumpThread = threadBuilder.name("Pump").start(() -> pump(receiver, failureHandler));
+        }
+        return new Link(outbound);
+    }
+
+    private void pump(IntConsumer receiver, Consumer<IOException> failureHandler) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try {
+            for (; ; ) {
+                if (selector != null) {
+                    selector.select();
+                    selector.selectedKeys().clear();
+                    if (closed) {
+                        return;
+                    }
+                }
+                // noinspection DataFlowIssue
+                if (inbound.read(buffer) < 0) {
+                    throw new EOFException("inbound closed by the previous segment");
+                }
+                buffer.flip();
+                while (buffer.remaining() >= Integer.BYTES) {
+                    receiver.accept(buffer.getInt());
+                }
+                buffer.compact();
+            }
+        } catch (IOException error) {
+            if (closed) {
+                log("inbound closed");
+            } else {
+                failureHandler.accept(error);
+            }
+        }
+    }
+
+    private static final class Link implements SegmentLink {
+
+        private final SocketChannel channel;
+
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        private Link(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public synchronized void send(int message) throws IOException {
+            buffer.clear();
+            buffer.putInt(message);
+            flush();
+        }
+
+        @Override
+        public synchronized void send(int[] messages, int length) throws IOException {
+            buffer.clear();
+            for (int messageIndex = 0; messageIndex < length; messageIndex++) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    flush();
+                    buffer.clear();
+                }
+                buffer.putInt(messages[messageIndex]);
+            }
+            flush();
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        closed = true;
+        if (selector != null) {
+            selector.wakeup();
+        }
+        if (outbound != null) {
+            outbound.close();
+        }
+        if (pumpThread != null) {
+            // Closing the inbound channel on a selector thread would leave the key registered until the next select.
+            if (selector == null && inbound != null) {
+                inbound.close();
+            }
+            pumpThread.join();
+        }
+        if (inbound != null) {
+            inbound.close();
+        }
+        if (selector != null) {
+            selector.close();
+        }
+        if (server != null) {
+            server.close();
+        }
+        if (socketFile != null) {
+            Files.deleteIfExists(socketFile);
+        }
+    }
+
+}
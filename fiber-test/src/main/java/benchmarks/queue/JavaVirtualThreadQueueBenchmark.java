@@ -0,0 +1,325 @@
+package benchmarks.queue;
+
+import benchmarks.core.CompletionBarrier;
+import benchmarks.core.ConcurrentFifoQueue;
+import benchmarks.core.MpmcFifoQueue;
+import benchmarks.core.MpscFifoQueue;
+import benchmarks.core.SpscFifoQueue;
+import benchmarks.core.VirtualThreadScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static benchmarks.core.StdoutLogger.log;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Benchmark of {@link ConcurrentFifoQueue} realizations against their JDK counterparts, where producers and
+ * a single consumer are virtual {@link Thread}s transferring {@link #MESSAGE_COUNT} items per invocation.
+ * <p>
+ * Lock-free queues {@link Thread#yield() yield} the carrier while full or empty and the consumer drains them
+ * in batches of {@link #DRAIN_LIMIT}, whereas JDK queues block in {@link BlockingQueue#put(Object)} and
+ * {@link BlockingQueue#take()}. The threads are started once per trial. The {@code carrierCount} parameter is
+ * ignored by the {@link VirtualThreadScheduler.Kind#DEFAULT DEFAULT} scheduler, whose carrier count is rather set
+ * via {@code -Djdk.virtualThreadScheduler.parallelism}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(JavaVirtualThreadQueueBenchmark.MESSAGE_COUNT)
+@Fork(jvmArgsAppend = VirtualThreadScheduler.ADD_OPENS_JVM_ARG)
+public class JavaVirtualThreadQueueBenchmark {
+
+    static final int MESSAGE_COUNT = 100_000;
+
+    private static final int DRAIN_LIMIT = 64;
+
+    private static final Integer ITEM = 1;
+
+    private static final Consumer<Object> DISCARDING_CONSUMER = ignored -> {};
+
+    public enum QueueKind {
+        SPSC, MPSC, MPMC, ARRAY_BLOCKING_QUEUE, LINKED_TRANSFER_QUEUE
+    }
+
+    private interface Mailbox {
+
+        void put(Integer item) throws InterruptedException;
+
+        /**
+         * @return the number of taken items, which might be zero
+         */
+        int take() throws InterruptedException;
+
+    }
+
+    private static Mailbox createMailbox(QueueKind queueKind, int capacity) {
+        switch (queueKind) {
+            case SPSC:
+                return createMailbox(new SpscFifoQueue<>(capacity));
+            case MPSC:
+                return createMailbox(new MpscFifoQueue<>(capacity));
+            case MPMC:
+                return createMailbox(new MpmcFifoQueue<>(capacity));
+            case ARRAY_BLOCKING_QUEUE:
+                return createMailbox(new ArrayBlockingQueue<>(capacity));
+            case LINKED_TRANSFER_QUEUE:
+                return createMailbox(new LinkedTransferQueue<>());
+            default:
+                throw new IllegalArgumentException("unknown queue kind: " + queueKind);
+        }
+    }
+
+    private static Mailbox createMailbox(ConcurrentFifoQueue<Integer> queue) {
+        return new Mailbox() {
+
+            @Override
+            public void put(Integer item) {
+                while (!queue.offer(item)) {
+                    Thread.yield();
+                }
+            }
+
+            @Override
+            public int take() {
+                int takenCount = queue.drain(DISCARDING_CONSUMER, DRAIN_LIMIT);
+                if (takenCount == 0) {
+                    Thread.yield();
+                }
+                return takenCount;
+            }
+
+        };
+    }
+
+    private static Mailbox createMailbox(BlockingQueue<Integer> queue) {
+        return new Mailbox() {
+
+            @Override
+            public void put(Integer item) throws InterruptedException {
+                queue.put(item);
+            }
+
+            @Override
+            public int take() throws InterruptedException {
+                queue.take();
+                return 1;
+            }
+
+        };
+    }
+
+    /**
+     * Producers and a consumer started once per trial, each running a round of the transfer per
+     * {@link #transfer()}, hence thread creation and start-up stay out of the measured invocations.
+     */
+    private static final class Context implements AutoCloseable {
+
+        private final CompletionBarrier completionBarrier = new CompletionBarrier();
+
+        /**
+         * Per-thread permits to run a round, where the consumer comes last.
+         */
+        private final Semaphore[] roundPermits;
+
+        private final Thread[] threads;
+
+        private Context(VirtualThreadScheduler scheduler, Mailbox mailbox, int producerCount) {
+
+            int producerMessageCount = MESSAGE_COUNT / producerCount;
+            int messageCount = producerMessageCount * producerCount;
+            this.roundPermits = new Semaphore[producerCount + 1];
+            this.threads = new Thread[producerCount + 1];
+            for (int threadIndex = 0; threadIndex < threads.length; threadIndex++) {
+                roundPermits[threadIndex] = new Semaphore(0);
+            }
+
+            log("creating virtual threads (producerCount=%d)", producerCount);
+            for (int producerIndex = 0; producerIndex < producerCount; producerIndex++) {
+                Semaphore producerRoundPermits = roundPermits[producerIndex];
+                threads[producerIndex] = scheduler.newThread("Producer-" + producerIndex, () -> {
+                    try {
+                        // noinspection InfiniteLoopStatement
+                        for (; ; ) {
+                            producerRoundPermits.acquire();
+                            for (int messageIndex = 0; messageIndex < producerMessageCount; messageIndex++) {
+                                mailbox.put(ITEM);
+                            }
+                        }
+                    } catch (InterruptedException ignored) {
+                        log("producer interrupted");
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            Semaphore consumerRoundPermits = roundPermits[producerCount];
+            threads[producerCount] = scheduler.newThread("Consumer", () -> {
+                try {
+                    // noinspection InfiniteLoopStatement
+                    for (; ; ) {
+                        consumerRoundPermits.acquire();
+                        for (int remainingCount = messageCount; remainingCount > 0; ) {
+                            remainingCount -= mailbox.take();
+                        }
+                        completionBarrier.signal();
+                    }
+                } catch (InterruptedException ignored) {
+                    log("consumer interrupted");
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            log("starting virtual threads (scheduler=%s)", scheduler.name());
+            for (Thread thread : threads) {
+                thread.start();
+            }
+
+        }
+
+        private void transfer() {
+            int generation = completionBarrier.generation();
+            for (Semaphore threadRoundPermits : roundPermits) {
+                threadRoundPermits.release();
+            }
+            completionBarrier.awaitAdvance(generation);
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+
+            log("interrupting virtual threads");
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+
+            log("waiting for virtual threads to complete");
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class SingleProducerState {
+
+        @Param({"SPSC", "MPSC", "MPMC", "ARRAY_BLOCKING_QUEUE", "LINKED_TRANSFER_QUEUE"})
+        QueueKind queueKind;
+
+        @Param({"1024"})
+        int capacity;
+
+        @Param({"DEFAULT"})
+        VirtualThreadScheduler.Kind schedulerKind;
+
+        /**
+         * Ignored by the {@link VirtualThreadScheduler.Kind#DEFAULT DEFAULT} scheduler.
+         */
+        @Param({"2"})
+        int carrierCount;
+
+        VirtualThreadScheduler scheduler;
+
+        Context context;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            scheduler = VirtualThreadScheduler.create(schedulerKind, carrierCount);
+            context = new Context(scheduler, createMailbox(queueKind, capacity), 1);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws InterruptedException {
+            context.close();
+            scheduler.close();
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class MultiProducerState {
+
+        @Param({"MPSC", "MPMC", "ARRAY_BLOCKING_QUEUE", "LINKED_TRANSFER_QUEUE"})
+        QueueKind queueKind;
+
+        @Param({"4"})
+        int producerCount;
+
+        @Param({"1024"})
+        int capacity;
+
+        @Param({"DEFAULT"})
+        VirtualThreadScheduler.Kind schedulerKind;
+
+        /**
+         * Ignored by the {@link VirtualThreadScheduler.Kind#DEFAULT DEFAULT} scheduler.
+         */
+        @Param({"4"})
+        int carrierCount;
+
+        VirtualThreadScheduler scheduler;
+
+        Context context;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            if (queueKind == QueueKind.SPSC) {
+                throw new IllegalArgumentException("SPSC queue does not support multiple producers");
+            }
+            scheduler = VirtualThreadScheduler.create(schedulerKind, carrierCount);
+            context = new Context(scheduler, createMailbox(queueKind, capacity), producerCount);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws InterruptedException {
+            context.close();
+            scheduler.close();
+        }
+
+    }
+
+    @Benchmark
+    public void singleProducer(SingleProducerState state) {
+        state.context.transfer();
+    }
+
+    @Benchmark
+    public void multiProducer(MultiProducerState state) {
+        state.context.transfer();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaVirtualThreadQueueBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .resultFormat(ResultFormatType.JSON)
+                .result("VirtualThreadQueue_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,166 @@
+package benchmarks.report;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A single entry of a JMH JSON result file, i.e., the primary metric of a benchmark in a given configuration.
+ */
+final class BenchmarkResult {
+
+    final String fileName;
+
+    final String benchmark;
+
+    final String mode;
+
+    final int threads;
+
+    final int warmupIterations;
+
+    final int measurementIterations;
+
+    /**
+     * Sorted by name, for stable configuration keys.
+     */
+    final Map<String, String> params;
+
+    final double score;
+
+    final double scoreError;
+
+    final String scoreUnit;
+
+    /**
+     * The measurement iterations of all forks.
+     */
+    final double[] rawData;
+
+    private BenchmarkResult(
+            String fileName, String benchmark, String mode, int threads,
+            int warmupIterations, int measurementIterations, Map<String, String> params,
+            double score, double scoreError, String scoreUnit, double[] rawData) {
+        this.fileName = fileName;
+        this.benchmark = benchmark;
+        this.mode = mode;
+        this.threads = threads;
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.params = params;
+        this.score = score;
+        this.scoreError = scoreError;
+        this.scoreUnit = scoreUnit;
+        this.rawData = rawData;
+    }
+
+    static List<BenchmarkResult> parseAll(String fileName, String json) {
+        Object root = JsonParser.parse(json);
+        if (!(root instanceof List)) {
+            throw new IllegalArgumentException("was expecting an array of results: " + fileName);
+        }
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (Object entry : (List<?>) root) {
+            results.add(parse(fileName, (Map<?, ?>) entry));
+        }
+        return results;
+    }
+
+    private static BenchmarkResult parse(String fileName, Map<?, ?> entry) {
+        Map<String, String> params = new TreeMap<>();
+        Object paramsObject = entry.get("params");
+        if (paramsObject instanceof Map) {
+            for (Map.Entry<?, ?> param : ((Map<?, ?>) paramsObject).entrySet()) {
+                params.put(String.valueOf(param.getKey()), String.valueOf(param.getValue()));
+            }
+        }
+        Map<?, ?> primaryMetric = (Map<?, ?>) entry.get("primaryMetric");
+        List<Double> rawData = new ArrayList<>();
+        Object rawDataObject = primaryMetric.get("rawData");
+        if (rawDataObject instanceof List) {
+            for (Object fork : (List<?>) rawDataObject) {
+                for (Object value : (List<?>) fork) {
+                    rawData.add(toDouble(value));
+                }
+            }
+        }
+        return new BenchmarkResult(
+                fileName,
+                (String) entry.get("benchmark"),
+                (String) entry.get("mode"),
+                (int) toDouble(entry.get("threads")),
+                (int) toDouble(entry.get("warmupIterations")),
+                (int) toDouble(entry.get("measurementIterations")),
+                params,
+                toDouble(primaryMetric.get("score")),
+                toDouble(primaryMetric.get("scoreError")),
+                (String) primaryMetric.get("scoreUnit"),
+                rawData.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    private static double toDouble(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        return value == null ? Double.NaN : Double.parseDouble(String.valueOf(value));
+    }
+
+    /**
+     * @return the benchmark name without its package and method, followed by the given params, if any
+     */
+    String realization(Set<String> realizationParams) {
+        String[] segments = benchmark.split("\\.");
+        int lastIndex = segments.length - 1;
+        // Dropping the method name, unless it is a JMH group, which is named after the realization.
+        if (lastIndex > 0 && Character.isLowerCase(segments[lastIndex].charAt(0))) {
+            lastIndex--;
+        }
+        StringBuilder builder = new StringBuilder(segments[lastIndex]);
+        String separator = "[";
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            if (realizationParams.contains(param.getKey())) {
+                builder.append(separator).append(param.getKey()).append('=').append(param.getValue());
+                separator = ", ";
+            }
+        }
+        return separator.equals("[") ? builder.toString() : builder.append(']').toString();
+    }
+
+    /**
+     * @return the mode, unit, iteration counts and params, except the given ones and optionally the thread count
+     */
+    String configuration(Set<String> excludedParams, boolean threadsIncluded) {
+        return configuration(excludedParams, threadsIncluded, true);
+    }
+
+    /**
+     * @return the mode, unit and params, except the given ones, and optionally the thread and iteration counts
+     */
+    String configuration(Set<String> excludedParams, boolean threadsIncluded, boolean iterationsIncluded) {
+        StringBuilder builder = new StringBuilder(mode)
+                .append(", ").append(scoreUnit);
+        if (iterationsIncluded) {
+            builder.append(", W").append(warmupIterations)
+                    .append(", M").append(measurementIterations);
+        }
+        if (threadsIncluded) {
+            builder.append(", threads=").append(threads);
+        }
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            if (!excludedParams.contains(param.getKey())) {
+                builder.append(", ").append(param.getKey()).append('=').append(param.getValue());
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return {@code true} if a lower score is better, i.e., the mode measures time rather than throughput
+     */
+    boolean isLowerBetter() {
+        return !"thrpt".equals(mode);
+    }
+
+}
@@ -0,0 +1,138 @@
+package benchmarks.report;
+
+import benchmarks.core.PropertyHelper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Performance regression gate comparing JMH JSON results against a stored baseline.
+ * <ul>
+ * <li>{@code save <baselineDirectory> <file or directory>...} copies the non-empty result files into the baseline
+ * directory, replacing the ones with the same name. Baselines of the same configurations saved under another
+ * name, e.g., with other iteration counts, are to be removed, since {@code check} fails on them.</li>
+ * <li>{@code check <baselineDirectory> <file or directory>...} matches every result of a benchmark matching
+ * {@code gate.benchmarks} with the baseline result of the same benchmark and configuration, where the warmup and
+ * measurement iteration counts are not part of the configuration, hence a longer candidate run still finds its
+ * baseline, and fails if the baseline holds more than one result of a configuration. It exits with
+ * {@value #REGRESSION_EXIT_CODE} if any of them got slower by more than {@code gate.thresholdPercent} with
+ * confidence {@code gate.confidencePercent}, i.e., if the upper bound of its bootstrapped speedup confidence
+ * interval is below {@code 1 - threshold}.</li>
+ * </ul>
+ * Requiring the whole interval to be beyond the threshold keeps noisy runs from failing the gate, hence runs with
+ * more measurement iterations make the gate tighter.
+ */
+public class RegressionGate {
+
+    static final int REGRESSION_EXIT_CODE = 1;
+
+    static final int USAGE_EXIT_CODE = 2;
+
+    private static final Pattern BENCHMARKS = Pattern.compile(System.getProperty("gate.benchmarks", "JavaThreadRingBenchmark|JavaFiberRingBenchmark"));
+
+    private static final double THRESHOLD = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("gate.thresholdPercent", "5", 0) / 100.0;
+
+    private static final double CONFIDENCE = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("gate.confidencePercent", "95", 1) / 100.0;
+
+    public static void main(String[] args) throws IOException {
+
+        if (args.length < 3 || !("save".equals(args[0]) || "check".equals(args[0]))) {
+            System.err.println("usage: RegressionGate save|check <baselineDirectory> <file or directory>...");
+            System.exit(USAGE_EXIT_CODE);
+        }
+        Path baselineDirectory = Paths.get(args[1]);
+        List<Path> files = new ArrayList<>();
+        for (int argIndex = 2; argIndex < args.length; argIndex++) {
+            files.addAll(ResultReport.listJsonFiles(Paths.get(args[argIndex])));
+        }
+
+        if ("save".equals(args[0])) {
+            save(baselineDirectory, files);
+        } else {
+            boolean passed = check(baselineDirectory, files);
+            System.exit(passed ? 0 : REGRESSION_EXIT_CODE);
+        }
+
+    }
+
+    private static void save(Path baselineDirectory, List<Path> files) throws IOException {
+        Files.createDirectories(baselineDirectory);
+        int savedFileCount = 0;
+        for (Path file : files) {
+            if (ResultReport.load(file).isEmpty()) {
+                continue;
+            }
+            Files.copy(file, baselineDirectory.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+            savedFileCount++;
+        }
+        System.out.format("saved %d result files to %s%n", savedFileCount, baselineDirectory.toAbsolutePath());
+    }
+
+    private static boolean check(Path baselineDirectory, List<Path> files) throws IOException {
+
+        Map<String, BenchmarkResult> baselines = new LinkedHashMap<>();
+        for (Path baselineFile : ResultReport.listJsonFiles(baselineDirectory)) {
+            for (BenchmarkResult baseline : ResultReport.load(baselineFile)) {
+                BenchmarkResult duplicate = baselines.putIfAbsent(key(baseline), baseline);
+                if (duplicate != null) {
+                    String message = String.format(
+                            "duplicate baseline: %s (files=%s, %s)",
+                            key(baseline), duplicate.fileName, baseline.fileName);
+                    throw new IllegalStateException(message);
+                }
+            }
+        }
+
+        int comparisonCount = 0;
+        int regressionCount = 0;
+        for (Path file : files) {
+            for (BenchmarkResult candidate : ResultReport.load(file)) {
+                if (!BENCHMARKS.matcher(candidate.benchmark).find()) {
+                    continue;
+                }
+                BenchmarkResult baseline = baselines.get(key(candidate));
+                if (baseline == null) {
+                    System.out.format("no baseline: %s%n", key(candidate));
+                    continue;
+                }
+                comparisonCount++;
+                Speedup speedup = Speedup.compute(baseline, candidate, CONFIDENCE);
+                // Without raw data, there is no interval, and the point estimate is all we have.
+                double upperBound = Double.isNaN(speedup.upperBound) ? speedup.value : speedup.upperBound;
+                boolean regressed = upperBound < 1 - THRESHOLD;
+                if (regressed) {
+                    regressionCount++;
+                }
+                System.out.format(
+                        "%s %s: speedup=%.3f [%.3f, %.3f] (baseline=%s, candidate=%s)%n",
+                        regressed ? "REGRESSION" : "ok", key(candidate),
+                        speedup.value, speedup.lowerBound, speedup.upperBound,
+                        baseline.fileName, candidate.fileName);
+            }
+        }
+
+        System.out.format(
+                "compared %d configurations (thresholdPercent=%.0f, confidencePercent=%.0f): %d regressions%n",
+                comparisonCount, THRESHOLD * 100, CONFIDENCE * 100, regressionCount);
+        if (comparisonCount == 0) {
+            System.out.println("nothing to compare, failing");
+            return false;
+        }
+        return regressionCount == 0;
+
+    }
+
+    private static String key(BenchmarkResult result) {
+        return result.benchmark + " (" + result.configuration(Collections.emptySet(), true, false) + ")";
+    }
+
+}
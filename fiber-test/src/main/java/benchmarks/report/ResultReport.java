@@ -0,0 +1,203 @@
+package benchmarks.report;
+
+import benchmarks.core.PropertyHelper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compares the JMH JSON result files given as arguments, or all {@code *.json} files of the given directories, and
+ * writes a Markdown and an HTML report into {@code report.outputDirectory}.
+ * <p>
+ * Results are grouped by configuration, i.e., mode, unit, JMH thread count and params, except the
+ * {@code report.realizationParams}, which rather tell realizations apart. Every realization in a group is compared
+ * against the one matching {@code report.baseline}, or the first one in name order, with the speedup confidence
+ * interval bootstrapped from the raw measurement iterations. Whenever a configuration has been measured for at least
+ * two values of {@code report.chartAxis}, i.e., {@code threads} or an integer param, the scores of every realization
+ * are charted against it in an SVG file.
+ */
+public class ResultReport {
+
+    private static final Path OUTPUT_DIRECTORY = Paths.get(System.getProperty("report.outputDirectory", "report"));
+
+    private static final Set<String> REALIZATION_PARAMS = Arrays
+            .stream(System.getProperty("report.realizationParams", "engine").split(","))
+            .map(String::trim)
+            .filter(param -> !param.isEmpty())
+            .collect(Collectors.toSet());
+
+    private static final Pattern BASELINE = Pattern.compile(System.getProperty(
+            "report.baseline", "^JavaThreadRingBenchmark$|\\[engine=THREAD]"));
+
+    private static final String CHART_AXIS = System.getProperty("report.chartAxis", "threads");
+
+    private static final double CONFIDENCE = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("report.confidencePercent", "95", 1) / 100.0;
+
+    public static void main(String[] args) throws IOException {
+
+        if (args.length == 0) {
+            System.err.println("usage: ResultReport <file or directory>...");
+            System.exit(1);
+        }
+
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (String arg : args) {
+            for (Path file : listJsonFiles(Paths.get(arg))) {
+                results.addAll(load(file));
+            }
+        }
+        if (results.isEmpty()) {
+            System.err.println("no results found");
+            System.exit(1);
+        }
+
+        Files.createDirectories(OUTPUT_DIRECTORY);
+        StringBuilder markdown = new StringBuilder("# Benchmark report\n\n");
+        StringBuilder html = new StringBuilder()
+                .append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"utf-8\">\n<title>Benchmark report</title>\n")
+                .append("<style>body{font-family:sans-serif} table{border-collapse:collapse} ")
+                .append("td,th{border:1px solid #ccc;padding:4px 8px;text-align:right} td:first-child{text-align:left}</style>\n")
+                .append("</head>\n<body>\n<h1>Benchmark report</h1>\n");
+        String confidenceLabel = String.format("%.0f%% CI", CONFIDENCE * 100);
+
+        // Tables.
+        Map<String, List<BenchmarkResult>> groups = groupBy(results, result -> result.configuration(REALIZATION_PARAMS, true));
+        for (Map.Entry<String, List<BenchmarkResult>> group : groups.entrySet()) {
+            List<BenchmarkResult> members = group.getValue();
+            members.sort(Comparator.comparing(result -> result.realization(REALIZATION_PARAMS)));
+            BenchmarkResult baseline = findBaseline(members);
+            markdown.append("## ").append(group.getKey()).append("\n\n")
+                    .append("| realization | score | error | speedup | ").append(confidenceLabel).append(" | file |\n")
+                    .append("|---|---:|---:|---:|---:|---|\n");
+            html.append("<h2>").append(SvgChart.escape(group.getKey())).append("</h2>\n<table>\n")
+                    .append("<tr><th>realization</th><th>score</th><th>error</th><th>speedup</th><th>")
+                    .append(confidenceLabel).append("</th><th>file</th></tr>\n");
+            for (BenchmarkResult member : members) {
+                String[] cells = formatRow(member, baseline);
+                markdown.append("| ").append(String.join(" | ", cells)).append(" |\n");
+                html.append("<tr>");
+                for (String cell : cells) {
+                    html.append("<td>").append(SvgChart.escape(cell)).append("</td>");
+                }
+                html.append("</tr>\n");
+            }
+            markdown.append('\n');
+            html.append("</table>\n");
+        }
+
+        // Charts.
+        Set<String> chartExcludedParams = new HashSet<>(REALIZATION_PARAMS);
+        chartExcludedParams.add(CHART_AXIS);
+        boolean threadsAxis = "threads".equals(CHART_AXIS);
+        Map<String, List<BenchmarkResult>> chartGroups = groupBy(
+                results.stream().filter(result -> threadsAxis || result.params.containsKey(CHART_AXIS)).collect(Collectors.toList()),
+                result -> result.configuration(chartExcludedParams, !threadsAxis));
+        int chartIndex = 0;
+        for (Map.Entry<String, List<BenchmarkResult>> chartGroup : chartGroups.entrySet()) {
+            Map<String, NavigableMap<Integer, Double>> series = new TreeMap<>();
+            for (BenchmarkResult result : chartGroup.getValue()) {
+                int x = threadsAxis ? result.threads : Integer.parseInt(result.params.get(CHART_AXIS));
+                series.computeIfAbsent(result.realization(REALIZATION_PARAMS), ignored -> new TreeMap<>()).put(x, result.score);
+            }
+            long distinctXCount = series.values().stream().flatMap(points -> points.keySet().stream()).distinct().count();
+            if (distinctXCount < 2) {
+                continue;
+            }
+            String unit = chartGroup.getValue().get(0).scoreUnit;
+            String chartFile = "chart" + ++chartIndex + ".svg";
+            String svg = SvgChart.render(chartGroup.getKey(), CHART_AXIS, unit, series);
+            Files.write(OUTPUT_DIRECTORY.resolve(chartFile), svg.getBytes(StandardCharsets.UTF_8));
+            markdown.append("![").append(chartGroup.getKey()).append("](").append(chartFile).append(")\n\n");
+            html.append("<p><img src=\"").append(chartFile).append("\" alt=\"")
+                    .append(SvgChart.escape(chartGroup.getKey())).append("\"></p>\n");
+        }
+
+        html.append("</body>\n</html>\n");
+        Files.write(OUTPUT_DIRECTORY.resolve("report.md"), markdown.toString().getBytes(StandardCharsets.UTF_8));
+        Files.write(OUTPUT_DIRECTORY.resolve("report.html"), html.toString().getBytes(StandardCharsets.UTF_8));
+        System.out.format(
+                "wrote report (results=%d, configurations=%d, charts=%d) to %s%n",
+                results.size(), groups.size(), chartIndex, OUTPUT_DIRECTORY.toAbsolutePath());
+
+    }
+
+    static List<Path> listJsonFiles(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            return files
+                    .filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    static List<BenchmarkResult> load(Path file) throws IOException {
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        if (json.isBlank()) {
+            System.out.format("skipping empty result file: %s%n", file);
+            return List.of();
+        }
+        return BenchmarkResult.parseAll(file.getFileName().toString(), json);
+    }
+
+    private static Map<String, List<BenchmarkResult>> groupBy(
+            List<BenchmarkResult> results, Function<BenchmarkResult, String> keyFunction) {
+        Map<String, List<BenchmarkResult>> groups = new LinkedHashMap<>();
+        for (BenchmarkResult result : results) {
+            groups.computeIfAbsent(keyFunction.apply(result), ignored -> new ArrayList<>()).add(result);
+        }
+        return groups;
+    }
+
+    private static BenchmarkResult findBaseline(List<BenchmarkResult> sortedMembers) {
+        for (BenchmarkResult member : sortedMembers) {
+            if (BASELINE.matcher(member.realization(REALIZATION_PARAMS)).find()) {
+                return member;
+            }
+        }
+        return sortedMembers.get(0);
+    }
+
+    private static String[] formatRow(BenchmarkResult member, BenchmarkResult baseline) {
+        String speedup;
+        String interval;
+        if (member == baseline) {
+            speedup = "baseline";
+            interval = "";
+        } else {
+            Speedup comparison = Speedup.compute(baseline, member, CONFIDENCE);
+            speedup = String.format("%.2fx%s", comparison.value, comparison.isSignificant() ? "" : " (n.s.)");
+            interval = Double.isNaN(comparison.lowerBound)
+                    ? "n/a"
+                    : String.format("%.2f–%.2f", comparison.lowerBound, comparison.upperBound);
+        }
+        return new String[]{
+                member.realization(REALIZATION_PARAMS),
+                SvgChart.formatNumber(member.score),
+                Double.isNaN(member.scoreError) ? "n/a" : SvgChart.formatNumber(member.scoreError),
+                speedup,
+                interval,
+                member.fileName
+        };
+    }
+
+}
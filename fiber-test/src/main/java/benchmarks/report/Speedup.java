@@ -0,0 +1,71 @@
+package benchmarks.report;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Speedup of a candidate over a baseline, i.e., how many times faster the candidate is, with a percentile
+ * bootstrap confidence interval computed by resampling the raw measurement iterations of both.
+ */
+final class Speedup {
+
+    private static final int RESAMPLE_COUNT = 10_000;
+
+    private static final long SEED = 0x5eed;
+
+    final double value;
+
+    final double lowerBound;
+
+    final double upperBound;
+
+    private Speedup(double value, double lowerBound, double upperBound) {
+        this.value = value;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * @param confidence the confidence level of the interval, e.g., {@code 0.95}
+     */
+    static Speedup compute(BenchmarkResult baseline, BenchmarkResult candidate, double confidence) {
+        boolean lowerBetter = baseline.isLowerBetter();
+        double value = ratio(baseline.score, candidate.score, lowerBetter);
+        if (baseline.rawData.length < 2 || candidate.rawData.length < 2) {
+            return new Speedup(value, Double.NaN, Double.NaN);
+        }
+        // A fixed seed keeps reports reproducible.
+        SplittableRandom random = new SplittableRandom(SEED);
+        double[] ratios = new double[RESAMPLE_COUNT];
+        for (int resampleIndex = 0; resampleIndex < RESAMPLE_COUNT; resampleIndex++) {
+            double baselineMean = resampleMean(baseline.rawData, random);
+            double candidateMean = resampleMean(candidate.rawData, random);
+            ratios[resampleIndex] = ratio(baselineMean, candidateMean, lowerBetter);
+        }
+        Arrays.sort(ratios);
+        double tail = (1 - confidence) / 2;
+        double lowerBound = ratios[(int) Math.floor(tail * (RESAMPLE_COUNT - 1))];
+        double upperBound = ratios[(int) Math.ceil((1 - tail) * (RESAMPLE_COUNT - 1))];
+        return new Speedup(value, lowerBound, upperBound);
+    }
+
+    private static double ratio(double baselineScore, double candidateScore, boolean lowerBetter) {
+        return lowerBetter ? baselineScore / candidateScore : candidateScore / baselineScore;
+    }
+
+    private static double resampleMean(double[] values, SplittableRandom random) {
+        double sum = 0;
+        for (int valueIndex = 0; valueIndex < values.length; valueIndex++) {
+            sum += values[random.nextInt(values.length)];
+        }
+        return sum / values.length;
+    }
+
+    /**
+     * @return {@code true} if the confidence interval does not contain one, i.e., the difference is significant
+     */
+    boolean isSignificant() {
+        return lowerBound > 1 || upperBound < 1;
+    }
+
+}
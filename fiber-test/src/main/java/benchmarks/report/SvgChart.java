@@ -0,0 +1,134 @@
+package benchmarks.report;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeSet;
+
+/**
+ * Renders a line chart of series of scores as a standalone SVG document, where the distinct x values are spaced
+ * evenly, since they are typically powers of two, and the y axis starts at zero.
+ */
+enum SvgChart {;
+
+    private static final int WIDTH = 720;
+
+    private static final int HEIGHT = 400;
+
+    private static final int MARGIN = 60;
+
+    private static final int LEGEND_WIDTH = 240;
+
+    private static final String[] COLORS = {
+            "#1f77b4", "#ff7f0e", "#2ca02c", "#d62728", "#9467bd", "#8c564b", "#e377c2", "#7f7f7f", "#bcbd22", "#17becf"
+    };
+
+    static String render(String title, String xLabel, String yLabel, Map<String, NavigableMap<Integer, Double>> series) {
+
+        TreeSet<Integer> xs = new TreeSet<>();
+        double maxY = 0;
+        for (NavigableMap<Integer, Double> points : series.values()) {
+            xs.addAll(points.keySet());
+            for (double y : points.values()) {
+                maxY = Math.max(maxY, y);
+            }
+        }
+        maxY = maxY > 0 ? maxY * 1.1 : 1;
+        int plotWidth = WIDTH - 2 * MARGIN - LEGEND_WIDTH;
+        int plotHeight = HEIGHT - 2 * MARGIN;
+
+        StringBuilder svg = new StringBuilder();
+        svg.append(String.format(
+                "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"%d\" height=\"%d\" font-family=\"sans-serif\" font-size=\"12\">%n",
+                WIDTH, HEIGHT));
+        svg.append(String.format(
+                "<text x=\"%d\" y=\"%d\" font-size=\"14\" font-weight=\"bold\">%s</text>%n",
+                MARGIN, MARGIN / 2, escape(title)));
+        svg.append(String.format(
+                "<rect x=\"%d\" y=\"%d\" width=\"%d\" height=\"%d\" fill=\"none\" stroke=\"#999\"/>%n",
+                MARGIN, MARGIN, plotWidth, plotHeight));
+
+        // Axes.
+        int xIndex = 0;
+        for (int x : xs) {
+            double px = xPosition(xIndex++, xs.size(), plotWidth);
+            svg.append(String.format(
+                    "<text x=\"%.1f\" y=\"%d\" text-anchor=\"middle\">%d</text>%n",
+                    px, MARGIN + plotHeight + 16, x));
+        }
+        for (int tickIndex = 0; tickIndex <= 4; tickIndex++) {
+            double y = maxY * tickIndex / 4;
+            double py = yPosition(y, maxY, plotHeight);
+            svg.append(String.format(
+                    "<line x1=\"%d\" y1=\"%.1f\" x2=\"%d\" y2=\"%.1f\" stroke=\"#eee\"/>%n",
+                    MARGIN, py, MARGIN + plotWidth, py));
+            svg.append(String.format(
+                    "<text x=\"%d\" y=\"%.1f\" text-anchor=\"end\">%s</text>%n",
+                    MARGIN - 4, py + 4, formatNumber(y)));
+        }
+        svg.append(String.format(
+                "<text x=\"%d\" y=\"%d\" text-anchor=\"middle\">%s</text>%n",
+                MARGIN + plotWidth / 2, HEIGHT - MARGIN / 2 + 8, escape(xLabel)));
+        svg.append(String.format(
+                "<text x=\"%d\" y=\"%d\" text-anchor=\"middle\" transform=\"rotate(-90 %d %d)\">%s</text>%n",
+                MARGIN / 4 + 4, MARGIN + plotHeight / 2, MARGIN / 4 + 4, MARGIN + plotHeight / 2, escape(yLabel)));
+
+        // Series and legend.
+        int seriesIndex = 0;
+        for (Map.Entry<String, NavigableMap<Integer, Double>> entry : series.entrySet()) {
+            String color = COLORS[seriesIndex % COLORS.length];
+            StringBuilder points = new StringBuilder();
+            for (Map.Entry<Integer, Double> point : entry.getValue().entrySet()) {
+                double px = xPosition(xs.headSet(point.getKey()).size(), xs.size(), plotWidth);
+                double py = yPosition(point.getValue(), maxY, plotHeight);
+                points.append(String.format("%.1f,%.1f ", px, py));
+                svg.append(String.format(
+                        "<circle cx=\"%.1f\" cy=\"%.1f\" r=\"3\" fill=\"%s\"/>%n",
+                        px, py, color));
+            }
+            svg.append(String.format(
+                    "<polyline points=\"%s\" fill=\"none\" stroke=\"%s\" stroke-width=\"2\"/>%n",
+                    points.toString().trim(), color));
+            int legendY = MARGIN + 16 * seriesIndex;
+            svg.append(String.format(
+                    "<rect x=\"%d\" y=\"%d\" width=\"10\" height=\"10\" fill=\"%s\"/>%n",
+                    WIDTH - LEGEND_WIDTH, legendY, color));
+            svg.append(String.format(
+                    "<text x=\"%d\" y=\"%d\">%s</text>%n",
+                    WIDTH - LEGEND_WIDTH + 14, legendY + 10, escape(entry.getKey())));
+            seriesIndex++;
+        }
+
+        svg.append("</svg>\n");
+        return svg.toString();
+
+    }
+
+    private static double xPosition(int index, int count, int plotWidth) {
+        return count == 1
+                ? MARGIN + plotWidth / 2.0
+                : MARGIN + 20 + (plotWidth - 40.0) * index / (count - 1);
+    }
+
+    private static double yPosition(double y, double maxY, int plotHeight) {
+        return MARGIN + plotHeight * (1 - y / maxY);
+    }
+
+    static String formatNumber(double value) {
+        double magnitude = Math.abs(value);
+        if (magnitude >= 1e9) {
+            return String.format("%.2fG", value / 1e9);
+        }
+        if (magnitude >= 1e6) {
+            return String.format("%.2fM", value / 1e6);
+        }
+        if (magnitude >= 1e3) {
+            return String.format("%.2fk", value / 1e3);
+        }
+        return String.format("%.3g", value);
+    }
+
+    static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+}
@@ -0,0 +1,84 @@
+package benchmarks.startup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Startup benchmark using Java {@link Thread}s.
+ * <p>
+ * The threads are released outside the measurement, and the mean spawn, start and first park durations are
+ * reported after every JMH iteration. Mind the OS limits on the number of threads, the largest
+ * {@code threadCount} usually exceeds them, narrow the sweep with {@code -p threadCount=...} then.
+ */
+@State(Scope.Benchmark)
+public class JavaThreadStartupBenchmark implements StartupBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int threadCount;
+
+    private StartupContext context;
+
+    public JavaThreadStartupBenchmark() {
+    }
+
+    public JavaThreadStartupBenchmark(int threadCount) {
+        this.threadCount = threadCount;
+        this.context = createContext(threadCount);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = createContext(threadCount);
+    }
+
+    private static StartupContext createContext(int threadCount) {
+        return new StartupContext("thread", Thread.ofPlatform().factory(), threadCount);
+    }
+
+    @Override
+    @TearDown
+    public void close() throws InterruptedException {
+        context.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        context.report();
+    }
+
+    @Override
+    @TearDown(Level.Invocation)
+    public void releaseThreads() throws InterruptedException {
+        context.releaseThreads();
+    }
+
+    @Override
+    @Benchmark
+    public int startupBenchmark() throws InterruptedException {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaThreadStartupBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .resultFormat(ResultFormatType.JSON)
+                .result("ThreadStartupRealization_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,100 @@
+package benchmarks.startup;
+
+import benchmarks.core.VirtualThreadScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static benchmarks.startup.StartupBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Startup benchmark using virtual {@link Thread}s, see {@link JavaThreadStartupBenchmark}.
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = VirtualThreadScheduler.ADD_OPENS_JVM_ARG)
+public class JavaVirtualThreadStartupBenchmark implements StartupBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int threadCount;
+
+    private final VirtualThreadScheduler.Kind schedulerKind;
+
+    private final int carrierCount;
+
+    private VirtualThreadScheduler scheduler;
+
+    private StartupContext context;
+
+    public JavaVirtualThreadStartupBenchmark() {
+        this.schedulerKind = CARRIER_SCHEDULER;
+        this.carrierCount = CARRIER_COUNT;
+    }
+
+    public JavaVirtualThreadStartupBenchmark(int threadCount, VirtualThreadScheduler.Kind schedulerKind, int carrierCount) {
+        this.threadCount = threadCount;
+        this.schedulerKind = schedulerKind;
+        this.carrierCount = carrierCount;
+        createContext();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        createContext();
+    }
+
+    private void createContext() {
+        scheduler = VirtualThreadScheduler.create(schedulerKind, carrierCount);
+        context = new StartupContext("virtual-" + scheduler.name(), scheduler.threadFactory(), threadCount);
+    }
+
+    @Override
+    @TearDown
+    public void close() throws InterruptedException {
+        context.close();
+        scheduler.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        context.report();
+    }
+
+    @Override
+    @TearDown(Level.Invocation)
+    public void releaseThreads() throws InterruptedException {
+        context.releaseThreads();
+    }
+
+    @Override
+    @Benchmark
+    public int startupBenchmark() throws InterruptedException {
+        return context.call();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaVirtualThreadStartupBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .jvmArgsAppend(
+                        VirtualThreadScheduler.ADD_OPENS_JVM_ARG,
+                        "-Dstartup.carrierScheduler=" + CARRIER_SCHEDULER,
+                        "-Dstartup.carrierCount=" + CARRIER_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("VirtualThreadStartupRealization" + CARRIER_SCHEDULER + CARRIER_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
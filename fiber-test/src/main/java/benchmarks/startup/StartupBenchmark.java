@@ -0,0 +1,19 @@
+package benchmarks.startup;
+
+/**
+ * Creation and startup benchmark, where {@code threadCount} threads are created and started,
+ * and every thread parks right away until {@link #releaseThreads() released}.
+ */
+public interface StartupBenchmark extends AutoCloseable {
+
+    /**
+     * @return the number of threads that reached their first park
+     */
+    int startupBenchmark() throws Exception;
+
+    /**
+     * Unparks and joins the threads started by the last {@link #startupBenchmark()}.
+     */
+    void releaseThreads() throws Exception;
+
+}
@@ -0,0 +1,12 @@
+package benchmarks.startup;
+
+import benchmarks.core.PropertyHelper;
+import benchmarks.core.VirtualThreadScheduler;
+
+public enum StartupBenchmarkConfig {;
+
+    public static final VirtualThreadScheduler.Kind CARRIER_SCHEDULER = PropertyHelper.readEnumProperty("startup.carrierScheduler", "DEFAULT", VirtualThreadScheduler.Kind.class);
+
+    public static final int CARRIER_COUNT = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("startup.carrierCount", String.valueOf(Runtime.getRuntime().availableProcessors()), 1);
+
+}
@@ -0,0 +1,148 @@
+package benchmarks.startup;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static benchmarks.core.DurationHelper.formatDurationNanos;
+import static benchmarks.core.StdoutLogger.log;
+
+/**
+ * Creates, starts and parks a fixed number of threads per {@link #call()}, stamping the time the last
+ * {@link Thread#start()} returned, the time the last thread started running, and the time the last thread
+ * reached its first park.
+ * <p>
+ * A thread cannot stamp its own park, since it is not parked before {@link LockSupport#park(Object)} is entered,
+ * hence every thread rather counts itself right before its first park, and the last one to do so stamps the park
+ * time, which underestimates it by the cost of a single park entry. The caller then waits for that count and
+ * confirms every thread is in {@link Thread.State#WAITING WAITING} state, outside of the stamped duration.
+ */
+final class StartupContext implements AutoCloseable, Callable<Integer> {
+
+    private final String name;
+
+    private final ThreadFactory threadFactory;
+
+    private final Thread[] threads;
+
+    private final AtomicInteger startedThreadCount = new AtomicInteger();
+
+    private final AtomicInteger parkingThreadCount = new AtomicInteger();
+
+    private final Runnable task = this::runThread;
+
+    private volatile boolean released = false;
+
+    private volatile long lastStartTimeNanos;
+
+    private volatile long lastParkTimeNanos;
+
+    private CountDownLatch parkLatch = null;
+
+    private long invocationCount = 0;
+
+    private long totalSpawnDurationNanos = 0;
+
+    private long totalStartDurationNanos = 0;
+
+    private long totalParkDurationNanos = 0;
+
+    StartupContext(String name, ThreadFactory threadFactory, int threadCount) {
+        this.name = name;
+        this.threadFactory = threadFactory;
+        this.threads = new Thread[threadCount];
+    }
+
+    private void runThread() {
+        if (startedThreadCount.incrementAndGet() == threads.length) {
+            lastStartTimeNanos = System.nanoTime();
+        }
+        if (parkingThreadCount.incrementAndGet() == threads.length) {
+            lastParkTimeNanos = System.nanoTime();
+        }
+        parkLatch.countDown();
+        while (!released) {
+            LockSupport.park(this);
+        }
+    }
+
+    @Override
+    public Integer call() throws InterruptedException {
+
+        log("starting threads (name=%s, threadCount=%d)", () -> new Object[]{name, threads.length});
+        released = false;
+        startedThreadCount.set(0);
+        parkingThreadCount.set(0);
+        parkLatch = new CountDownLatch(threads.length);
+        long startTimeNanos = System.nanoTime();
+        for (int threadIndex = 0; threadIndex < threads.length; threadIndex++) {
+            Thread thread = threadFactory.newThread(task);
+            threads[threadIndex] = thread;
+            thread.start();
+        }
+        long spawnTimeNanos = System.nanoTime();
+
+        log("waiting for threads to park");
+        parkLatch.await();
+
+        log("confirming threads parked");
+        int parkedThreadCount = 0;
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+            parkedThreadCount++;
+        }
+        invocationCount++;
+        totalSpawnDurationNanos += spawnTimeNanos - startTimeNanos;
+        totalStartDurationNanos += lastStartTimeNanos - startTimeNanos;
+        totalParkDurationNanos += lastParkTimeNanos - startTimeNanos;
+        return parkedThreadCount;
+
+    }
+
+    void releaseThreads() throws InterruptedException {
+        log("releasing threads");
+        released = true;
+        for (Thread thread : threads) {
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+        for (int threadIndex = 0; threadIndex < threads.length; threadIndex++) {
+            Thread thread = threads[threadIndex];
+            if (thread != null) {
+                thread.join();
+                threads[threadIndex] = null;
+            }
+        }
+    }
+
+    /**
+     * Reports the mean durations collected since the last report.
+     */
+    void report() {
+        if (invocationCount == 0) {
+            return;
+        }
+        System.out.format(
+                "startup (name=%s, threadCount=%d, invocationCount=%d): mean spawn=%s start=%s first park=%s%n",
+                name, threads.length, invocationCount,
+                formatDurationNanos(totalSpawnDurationNanos / invocationCount),
+                formatDurationNanos(totalStartDurationNanos / invocationCount),
+                formatDurationNanos(totalParkDurationNanos / invocationCount));
+        invocationCount = 0;
+        totalSpawnDurationNanos = 0;
+        totalStartDurationNanos = 0;
+        totalParkDurationNanos = 0;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        report();
+        releaseThreads();
+    }
+
+}
@@ -0,0 +1,102 @@
+package benchmarks.tree;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.tree.TreeBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Tree benchmark using {@link RecursiveTask}s in a {@link ForkJoinPool}, i.e., work-stealing with non-blocking joins.
+ */
+@State(Scope.Benchmark)
+public class JavaForkJoinTreeBenchmark implements TreeBenchmark {
+
+    private static final class Node extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long number;
+
+        private final int size;
+
+        private Node(long number, int size) {
+            this.number = number;
+            this.size = size;
+        }
+
+        @Override
+        protected Long compute() {
+            if (size == 1) {
+                return number;
+            }
+            int childSize = size / BRANCHING_FACTOR;
+            Node[] children = new Node[BRANCHING_FACTOR];
+            for (int childIndex = 0; childIndex < BRANCHING_FACTOR; childIndex++) {
+                children[childIndex] = new Node(number + (long) childIndex * childSize, childSize);
+            }
+            // Forking all but the last child, which is computed by the current worker.
+            for (int childIndex = 0; childIndex < BRANCHING_FACTOR - 1; childIndex++) {
+                children[childIndex].fork();
+            }
+            long sum = children[BRANCHING_FACTOR - 1].compute();
+            for (int childIndex = BRANCHING_FACTOR - 2; childIndex >= 0; childIndex--) {
+                sum += children[childIndex].join();
+            }
+            return sum;
+        }
+
+    }
+
+    private final ForkJoinPool pool;
+
+    public JavaForkJoinTreeBenchmark() {
+        this(THREAD_COUNT);
+    }
+
+    public JavaForkJoinTreeBenchmark(int threadCount) {
+        log("creating fork-join pool (THREAD_COUNT=%d)", threadCount);
+        this.pool = new ForkJoinPool(threadCount);
+    }
+
+    @Override
+    @TearDown
+    public void close() {
+        log("shutting down the fork-join pool");
+        pool.shutdown();
+    }
+
+    @Override
+    @Benchmark
+    public long treeBenchmark() {
+        log("spawning the tree (LEAF_COUNT=%d)", LEAF_COUNT);
+        return TreeBenchmark.verifySum(pool.invoke(new Node(0, LEAF_COUNT)));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaForkJoinTreeBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .jvmArgsAppend(
+                        "-Dtree.branchingFactor=" + BRANCHING_FACTOR,
+                        "-Dtree.depth=" + DEPTH,
+                        "-Dtree.threadCount=" + THREAD_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("ForkJoinTreeRealization" + THREAD_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,94 @@
+package benchmarks.tree;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.tree.TreeBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Tree benchmark using a fixed pool of Java {@link Thread}s.
+ * <p>
+ * Blocking joins would exhaust the pool long before the leaves are reached, hence nodes are
+ * {@link CompletableFuture}s composed without blocking and only the caller blocks on the root.
+ */
+@State(Scope.Benchmark)
+public class JavaThreadPoolTreeBenchmark implements TreeBenchmark {
+
+    private final ExecutorService executorService;
+
+    public JavaThreadPoolTreeBenchmark() {
+        this(THREAD_COUNT);
+    }
+
+    public JavaThreadPoolTreeBenchmark(int threadCount) {
+        log("creating thread pool (THREAD_COUNT=%d)", threadCount);
+        this.executorService = Executors.newFixedThreadPool(threadCount);
+    }
+
+    private CompletableFuture<Long> spawn(long number, int size) {
+        if (size == 1) {
+            return CompletableFuture.completedFuture(number);
+        }
+        int childSize = size / BRANCHING_FACTOR;
+        List<CompletableFuture<Long>> children = new ArrayList<>(BRANCHING_FACTOR);
+        for (int childIndex = 0; childIndex < BRANCHING_FACTOR; childIndex++) {
+            long childNumber = number + (long) childIndex * childSize;
+            children.add(CompletableFuture
+                    .supplyAsync(() -> spawn(childNumber, childSize), executorService)
+                    .thenCompose(Function.identity()));
+        }
+        return CompletableFuture.allOf(children.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            long sum = 0;
+            for (CompletableFuture<Long> child : children) {
+                sum += child.join();
+            }
+            return sum;
+        });
+    }
+
+    @Override
+    @TearDown
+    public void close() {
+        log("shutting down the thread pool");
+        executorService.shutdown();
+    }
+
+    @Override
+    @Benchmark
+    public long treeBenchmark() {
+        log("spawning the tree (LEAF_COUNT=%d)", LEAF_COUNT);
+        return TreeBenchmark.verifySum(spawn(0, LEAF_COUNT).join());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaThreadPoolTreeBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .jvmArgsAppend(
+                        "-Dtree.branchingFactor=" + BRANCHING_FACTOR,
+                        "-Dtree.depth=" + DEPTH,
+                        "-Dtree.threadCount=" + THREAD_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("ThreadPoolTreeRealization" + THREAD_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
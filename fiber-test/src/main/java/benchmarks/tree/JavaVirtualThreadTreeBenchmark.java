@@ -0,0 +1,105 @@
+package benchmarks.tree;
+
+import benchmarks.core.VirtualThreadScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadFactory;
+
+import static benchmarks.core.StdoutLogger.log;
+import static benchmarks.tree.TreeBenchmarkConfig.*;
+import static org.openjdk.jmh.runner.Defaults.MEASUREMENT_ITERATIONS;
+import static org.openjdk.jmh.runner.Defaults.WARMUP_ITERATIONS;
+
+/**
+ * Tree benchmark using a virtual {@link Thread} per node, where every inner node blocks joining its children.
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = VirtualThreadScheduler.ADD_OPENS_JVM_ARG)
+public class JavaVirtualThreadTreeBenchmark implements TreeBenchmark {
+
+    private final VirtualThreadScheduler scheduler;
+
+    private final ThreadFactory threadFactory;
+
+    public JavaVirtualThreadTreeBenchmark() {
+        this(CARRIER_SCHEDULER, CARRIER_COUNT);
+    }
+
+    public JavaVirtualThreadTreeBenchmark(VirtualThreadScheduler.Kind schedulerKind, int carrierCount) {
+        this.scheduler = VirtualThreadScheduler.create(schedulerKind, carrierCount);
+        this.threadFactory = scheduler.threadFactory();
+    }
+
+    private long spawn(long number, int size) throws InterruptedException {
+        if (size == 1) {
+            return number;
+        }
+        int childSize = size / BRANCHING_FACTOR;
+        long[] childSums = new long[BRANCHING_FACTOR];
+        InterruptedException[] childFailures = new InterruptedException[BRANCHING_FACTOR];
+        Thread[] children = new Thread[BRANCHING_FACTOR];
+        for (int childIndex = 0; childIndex < BRANCHING_FACTOR; childIndex++) {
+            int finalChildIndex = childIndex;
+            long childNumber = number + (long) childIndex * childSize;
+            Thread child = threadFactory.newThread(() -> {
+                try {
+                    childSums[finalChildIndex] = spawn(childNumber, childSize);
+                } catch (InterruptedException error) {
+                    log("spawn interrupted");
+                    childFailures[finalChildIndex] = error;
+                }
+            });
+            children[childIndex] = child;
+            child.start();
+        }
+        long sum = 0;
+        for (int childIndex = 0; childIndex < BRANCHING_FACTOR; childIndex++) {
+            children[childIndex].join();
+            // Rethrowing the failure of a child, since its sum is missing.
+            if (childFailures[childIndex] != null) {
+                throw childFailures[childIndex];
+            }
+            sum += childSums[childIndex];
+        }
+        return sum;
+    }
+
+    @Override
+    @TearDown
+    public void close() {
+        scheduler.close();
+    }
+
+    @Override
+    @Benchmark
+    public long treeBenchmark() throws InterruptedException {
+        log("spawning the tree (LEAF_COUNT=%d)", LEAF_COUNT);
+        return TreeBenchmark.verifySum(spawn(0, LEAF_COUNT));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JavaVirtualThreadTreeBenchmark.class.getName())
+                .warmupIterations(WARMUP_ITERATIONS)
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .forks(1)
+                .jvmArgsAppend(
+                        VirtualThreadScheduler.ADD_OPENS_JVM_ARG,
+                        "-Dtree.branchingFactor=" + BRANCHING_FACTOR,
+                        "-Dtree.depth=" + DEPTH,
+                        "-Dtree.carrierScheduler=" + CARRIER_SCHEDULER,
+                        "-Dtree.carrierCount=" + CARRIER_COUNT)
+                .resultFormat(ResultFormatType.JSON)
+                .result("VirtualThreadTreeRealization" + CARRIER_SCHEDULER + CARRIER_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + ".json")
+                .build();
+        new Runner(options).run();
+    }
+}
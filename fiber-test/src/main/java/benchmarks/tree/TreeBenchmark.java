@@ -0,0 +1,23 @@
+package benchmarks.tree;
+
+/**
+ * Fan-out/fan-in benchmark, where every inner node of a {@link TreeBenchmarkConfig#BRANCHING_FACTOR}-ary tree spawns
+ * a task per child and sums up their results, and every leaf returns its own index, i.e., the "skynet" benchmark.
+ */
+public interface TreeBenchmark extends AutoCloseable {
+
+    long treeBenchmark() throws Exception;
+
+    /**
+     * @return the given sum if it matches {@link TreeBenchmarkConfig#EXPECTED_SUM}
+     * @throws IllegalStateException otherwise
+     */
+    static long verifySum(long sum) {
+        if (sum != TreeBenchmarkConfig.EXPECTED_SUM) {
+            String message = String.format("unexpected sum (expectedSum=%d, sum=%d)", TreeBenchmarkConfig.EXPECTED_SUM, sum);
+            throw new IllegalStateException(message);
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,37 @@
+package benchmarks.tree;
+
+import benchmarks.core.PropertyHelper;
+import benchmarks.core.VirtualThreadScheduler;
+
+public enum TreeBenchmarkConfig {;
+
+    public static final int BRANCHING_FACTOR = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("tree.branchingFactor", "10", 2);
+
+    public static final int DEPTH = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("tree.depth", "6", 0);
+
+    public static final int LEAF_COUNT = leafCount(BRANCHING_FACTOR, DEPTH);
+
+    /**
+     * Sum of the leaf indices, i.e., {@code 0 + 1 + ... + (LEAF_COUNT - 1)}.
+     */
+    public static final long EXPECTED_SUM = LEAF_COUNT * (LEAF_COUNT - 1L) / 2;
+
+    public static final int THREAD_COUNT = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("tree.threadCount", String.valueOf(Runtime.getRuntime().availableProcessors()), 1);
+
+    public static final VirtualThreadScheduler.Kind CARRIER_SCHEDULER = PropertyHelper.readEnumProperty("tree.carrierScheduler", "DEFAULT", VirtualThreadScheduler.Kind.class);
+
+    public static final int CARRIER_COUNT = PropertyHelper.readIntegerPropertyGreaterThanOrEqualTo("tree.carrierCount", String.valueOf(Runtime.getRuntime().availableProcessors()), 1);
+
+    private static int leafCount(int branchingFactor, int depth) {
+        long leafCount = 1;
+        for (int level = 0; level < depth; level++) {
+            leafCount *= branchingFactor;
+            if (leafCount > Integer.MAX_VALUE) {
+                String message = String.format("too many leaves (branchingFactor=%d, depth=%d)", branchingFactor, depth);
+                throw new IllegalArgumentException(message);
+            }
+        }
+        return (int) leafCount;
+    }
+
+}
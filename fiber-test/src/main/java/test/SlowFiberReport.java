@@ -1,8 +1,6 @@
 package test;
 
 import java.time.Instant;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -15,6 +13,9 @@ import java.util.concurrent.locks.ReentrantLock;
  * threads took 6255 ms
  * fibers took 27810 ms
  * </pre>
+ *
+ * The early-Loom {@code Fiber} API is gone, hence fibers are realized by virtual {@link Thread}s whose default
+ * scheduler is confined to {@link #THREAD_COUNT} carriers.
  */
 public enum SlowFiberReport {;
 
@@ -158,18 +159,19 @@ public enum SlowFiberReport {;
 
     }
 
-    private static int[] runFibers() {
+    private static int[] runFibers() throws InterruptedException {
 
-        log("creating executor service (THREAD_COUNT=%d)", THREAD_COUNT);
-        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        log("confining the virtual thread scheduler (THREAD_COUNT=%d)", THREAD_COUNT);
+        // Must precede the creation of the first virtual thread, which initializes the default scheduler.
+        System.setProperty("jdk.virtualThreadScheduler.parallelism", String.valueOf(THREAD_COUNT));
 
         log("creating workers (WORKER_COUNT=%d)", WORKER_COUNT);
         Worker[] workers = new Worker[WORKER_COUNT];
-        Fiber[] fibers = new Fiber[WORKER_COUNT];
+        Thread[] fibers = new Thread[WORKER_COUNT];
         int[] sequences = new int[WORKER_COUNT];
         for (int workerIndex = 0; workerIndex < WORKER_COUNT; workerIndex++) {
             workers[workerIndex] = new Worker(workerIndex, sequences);
-            fibers[workerIndex] = Fiber.schedule(executorService, workers[workerIndex]);
+            fibers[workerIndex] = Thread.ofVirtual().start(workers[workerIndex]);
         }
 
         log("setting \"next\" worker pointers");
@@ -190,13 +192,10 @@ public enum SlowFiberReport {;
 
         log("waiting for workers to complete");
         for (int workerIndex = 0; workerIndex < WORKER_COUNT; workerIndex++) {
-            Fiber fiber = fibers[workerIndex];
-            fiber.awaitTermination();
+            Thread fiber = fibers[workerIndex];
+            fiber.join();
         }
 
-        log("shutting down the executor service");
-        executorService.shutdown();
-
         log("returning populated sequences");
         return sequences;
 
@@ -1,6 +1,7 @@
 package test;
 
 import benchmarks.*;
+import benchmarks.core.VirtualThreadScheduler;
 import benchmarks.core.ring.RingBenchmark;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.results.format.ResultFormatType;
@@ -9,6 +10,9 @@ import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import static benchmarks.core.ring.RingBenchmarkConfig.CARRIER_COUNT;
+import static benchmarks.core.ring.RingBenchmarkConfig.CARRIER_SCHEDULER;
+import static benchmarks.core.ring.RingBenchmarkConfig.MAILBOX;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.openjdk.jmh.annotations.Mode.*;
@@ -33,32 +37,248 @@ public class Test {
      */
     private static final int MEASUREMENT_ITERATIONS = 20;
 
+    /**
+     * Builds the ring once per trial, hence thread creation and start-up stay out of the measured invocations.
+     * The ring size and message passing count are JMH parameters, e.g., {@code -p workerCount=600}.
+     */
+    public abstract static class RingState {
+
+        @Param({"60"})
+        int workerCount;
+
+        @Param({"6000"})
+        int messagePassingCount;
+
+        RingBenchmark benchmark;
+
+        abstract RingBenchmark createBenchmark() throws Exception;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            benchmark = createBenchmark();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            benchmark.close();
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class JavaThreadRingState extends RingState {
+
+        @Override
+        RingBenchmark createBenchmark() {
+            return new JavaThreadRingBenchmark(workerCount, messagePassingCount);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class JavaFiberRingState extends RingState {
+
+        @Override
+        RingBenchmark createBenchmark() {
+            return new JavaFiberRingBenchmark(workerCount, messagePassingCount);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class JavaVirtualThreadRingState extends RingState {
+
+        @Override
+        RingBenchmark createBenchmark() {
+            return new JavaVirtualThreadRingBenchmark(workerCount, messagePassingCount, CARRIER_SCHEDULER, CARRIER_COUNT);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class JavaThreadParkingRingState extends RingState {
+
+        @Override
+        RingBenchmark createBenchmark() {
+            return new JavaThreadParkingRingBenchmark(workerCount, messagePassingCount);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class JavaVirtualThreadParkingRingState extends RingState {
+
+        @Override
+        RingBenchmark createBenchmark() {
+            return new JavaVirtualThreadParkingRingBenchmark(workerCount, messagePassingCount, CARRIER_SCHEDULER, CARRIER_COUNT);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class JavaThreadMonitorRingState extends RingState {
+
+        @Override
+        RingBenchmark createBenchmark() {
+            return new JavaThreadMonitorRingBenchmark(workerCount, messagePassingCount);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class JavaVirtualThreadMonitorRingState extends RingState {
+
+        @Override
+        RingBenchmark createBenchmark() {
+            return new JavaVirtualThreadMonitorRingBenchmark(workerCount, messagePassingCount, CARRIER_SCHEDULER, CARRIER_COUNT);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class JavaThreadMailboxRingState extends RingState {
+
+        @Override
+        RingBenchmark createBenchmark() {
+            return new JavaThreadMailboxRingBenchmark(workerCount, messagePassingCount, MAILBOX);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class JavaVirtualThreadMailboxRingState extends RingState {
+
+        @Override
+        RingBenchmark createBenchmark() {
+            return new JavaVirtualThreadMailboxRingBenchmark(workerCount, messagePassingCount, MAILBOX, CARRIER_SCHEDULER, CARRIER_COUNT);
+        }
+
+    }
+
     @State(Scope.Benchmark)
-    public static class RingState {
-        RingBenchmark javaThreadRingBenchmark = new JavaThreadRingBenchmark();
-        RingBenchmark javaFiberRingBenchmark = new JavaFiberRingBenchmark();
+    public static class JavaThreadPipeRingState extends RingState {
+
+        @Override
+        RingBenchmark createBenchmark() throws Exception {
+            return new JavaThreadPipeRingBenchmark(workerCount, messagePassingCount);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class JavaVirtualThreadPipeRingState extends RingState {
+
+        @Override
+        RingBenchmark createBenchmark() throws Exception {
+            return new JavaVirtualThreadPipeRingBenchmark(workerCount, messagePassingCount, CARRIER_SCHEDULER, CARRIER_COUNT);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class JavaSelectorPipeRingState extends RingState {
+
+        @Override
+        RingBenchmark createBenchmark() throws Exception {
+            return new JavaSelectorPipeRingBenchmark(workerCount, messagePassingCount);
+        }
+
     }
 
     @Benchmark
     @BenchmarkMode(AverageTime)
     @OutputTimeUnit(MILLISECONDS)
     @Group("JavaThreadRingBenchmark")
-    public void testJavaThreadRing(RingState state) throws Exception {
-//        state.javaThreadRingBenchmark.ringBenchmark();
-        try (JavaThreadRingBenchmark benchmark = new JavaThreadRingBenchmark()) {
-            benchmark.ringBenchmark();
-        }
+    public int[] testJavaThreadRing(JavaThreadRingState state) throws Exception {
+        return state.benchmark.ringBenchmark();
     }
 
     @Benchmark
     @BenchmarkMode(AverageTime)
     @OutputTimeUnit(MILLISECONDS)
     @Group("JavaFiberRingBenchmark")
-    public void testJavaFiberRing(RingState state) throws Exception {
-//        state.javaFiberRingBenchmark.ringBenchmark();
-        try (JavaFiberRingBenchmark benchmark = new JavaFiberRingBenchmark()) {
-            benchmark.ringBenchmark();
-        }
+    public int[] testJavaFiberRing(JavaFiberRingState state) throws Exception {
+        return state.benchmark.ringBenchmark();
+    }
+
+    @Benchmark
+    @BenchmarkMode(AverageTime)
+    @OutputTimeUnit(MILLISECONDS)
+    @Group("JavaVirtualThreadRingBenchmark")
+    public int[] testJavaVirtualThreadRing(JavaVirtualThreadRingState state) throws Exception {
+        return state.benchmark.ringBenchmark();
+    }
+
+    @Benchmark
+    @BenchmarkMode(AverageTime)
+    @OutputTimeUnit(MILLISECONDS)
+    @Group("JavaThreadParkingRingBenchmark")
+    public int[] testJavaThreadParkingRing(JavaThreadParkingRingState state) throws Exception {
+        return state.benchmark.ringBenchmark();
+    }
+
+    @Benchmark
+    @BenchmarkMode(AverageTime)
+    @OutputTimeUnit(MILLISECONDS)
+    @Group("JavaVirtualThreadParkingRingBenchmark")
+    public int[] testJavaVirtualThreadParkingRing(JavaVirtualThreadParkingRingState state) throws Exception {
+        return state.benchmark.ringBenchmark();
+    }
+
+    @Benchmark
+    @BenchmarkMode(AverageTime)
+    @OutputTimeUnit(MILLISECONDS)
+    @Group("JavaThreadMonitorRingBenchmark")
+    public int[] testJavaThreadMonitorRing(JavaThreadMonitorRingState state) throws Exception {
+        return state.benchmark.ringBenchmark();
+    }
+
+    @Benchmark
+    @BenchmarkMode(AverageTime)
+    @OutputTimeUnit(MILLISECONDS)
+    @Group("JavaVirtualThreadMonitorRingBenchmark")
+    public int[] testJavaVirtualThreadMonitorRing(JavaVirtualThreadMonitorRingState state) throws Exception {
+        return state.benchmark.ringBenchmark();
+    }
+
+    @Benchmark
+    @BenchmarkMode(AverageTime)
+    @OutputTimeUnit(MILLISECONDS)
+    @Group("JavaThreadMailboxRingBenchmark")
+    public int[] testJavaThreadMailboxRing(JavaThreadMailboxRingState state) throws Exception {
+        return state.benchmark.ringBenchmark();
+    }
+
+    @Benchmark
+    @BenchmarkMode(AverageTime)
+    @OutputTimeUnit(MILLISECONDS)
+    @Group("JavaVirtualThreadMailboxRingBenchmark")
+    public int[] testJavaVirtualThreadMailboxRing(JavaVirtualThreadMailboxRingState state) throws Exception {
+        return state.benchmark.ringBenchmark();
+    }
+
+    @Benchmark
+    @BenchmarkMode(AverageTime)
+    @OutputTimeUnit(MILLISECONDS)
+    @Group("JavaThreadPipeRingBenchmark")
+    public int[] testJavaThreadPipeRing(JavaThreadPipeRingState state) throws Exception {
+        return state.benchmark.ringBenchmark();
+    }
+
+    @Benchmark
+    @BenchmarkMode(AverageTime)
+    @OutputTimeUnit(MILLISECONDS)
+    @Group("JavaVirtualThreadPipeRingBenchmark")
+    public int[] testJavaVirtualThreadPipeRing(JavaVirtualThreadPipeRingState state) throws Exception {
+        return state.benchmark.ringBenchmark();
+    }
+
+    @Benchmark
+    @BenchmarkMode(AverageTime)
+    @OutputTimeUnit(MILLISECONDS)
+    @Group("JavaSelectorPipeRingBenchmark")
+    public int[] testJavaSelectorPipeRing(JavaSelectorPipeRingState state) throws Exception {
+        return state.benchmark.ringBenchmark();
     }
 
     public static void main(String[] args) throws RunnerException {
@@ -68,6 +288,7 @@ public class Test {
                 .measurementIterations(MEASUREMENT_ITERATIONS)
                 .forks(1)
                 .threads(THREAD_COUNT)
+                .jvmArgsAppend(VirtualThreadScheduler.ADD_OPENS_JVM_ARG)
                 .resultFormat(ResultFormatType.JSON)
                 .result("Threads" + THREAD_COUNT + "_W" + WARMUP_ITERATIONS + "_M" + MEASUREMENT_ITERATIONS + "sleep.json")
                 .build();